@@ -0,0 +1,98 @@
+package com.uri;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * A CharSequence over a range of ASCII encoded bytes. Every byte is mapped to the char of the same value,
+ * the bytes are neither copied nor decoded until toString is called.
+ *
+ */
+final class AsciiSequence implements CharSequence {
+    static final Charset ASCII = Charset.forName("US-ASCII");
+    static final Charset UTF8  = Charset.forName("UTF-8");
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    AsciiSequence(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start  = start;
+        this.end    = end;
+    }
+
+    /**
+     * Returns true if all bytes between position and limit of the buffer are ASCII characters.
+     *
+     * @param buffer
+     * @return
+     */
+    static boolean isAscii(ByteBuffer buffer) {
+        return isAscii(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Returns true if all bytes between start and end of the buffer are ASCII characters.
+     *
+     * @param buffer
+     * @param start
+     * @param end
+     * @return
+     */
+    static boolean isAscii(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the bytes between position and limit of the buffer as UTF-8, the position is not changed.
+     *
+     * @param buffer
+     * @return
+     */
+    static String decode(ByteBuffer buffer) {
+        return UTF8.decode(buffer.duplicate()).toString();
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return (char)(buffer.get(start + index) & 0xFF);
+    }
+
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException(from + ", " + to);
+        }
+        return new AsciiSequence(buffer, start + from, start + to);
+    }
+
+    /**
+     * Returns the position of the first delimiter in the given range or the end of the range,
+     * see {@link Delimiters#next(CharSequence, int, int, long[])}.
+     */
+    int next(int from, int to, long[] delimiters) {
+        return Delimiters.next(buffer, start + from, start + to, delimiters) - start;
+    }
+
+    public String toString() {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, end - start, ASCII);
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, ASCII);
+    }
+}
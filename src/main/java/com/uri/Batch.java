@@ -0,0 +1,78 @@
+package com.uri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a range of inputs into chunks and processes them in parallel with an executor, used by the batch
+ * methods of {@link URI} and by {@link com.uri.idn.HostConverter}. A chunk has at least MIN_CHUNK inputs,
+ * there are at most four chunks per processor.
+ *
+ * This class is internal to the library and not part of its API. It is only public because
+ * HostConverter lives in another package, it may change or disappear in any release.
+ *
+ * <code>
+ *   Batch.run(inputs.length, executor, new Batch.Task() {
+ *       public void run(int from, int to) {
+ *           // process the inputs from (inclusive) to (exclusive)
+ *       }
+ *   });
+ * </code>
+ *
+ */
+public final class Batch {
+    static final int MIN_CHUNK = 1024;
+
+    /**
+     * The work for one chunk of the range.
+     */
+    public interface Task {
+        void run(int from, int to);
+    }
+
+    private Batch() {
+    }
+
+    /**
+     * Splits the range 0 to size into chunks, runs the task for each of them with the executor and
+     * waits until all chunks are done. The remaining chunks are cancelled if one of them fails.
+     *
+     * @param size
+     * @param executor
+     * @param task
+     * @throws InterruptedException when the thread is interrupted while waiting for the chunks
+     */
+    public static void run(int size, ExecutorService executor, final Task task) throws InterruptedException {
+        int chunks = Math.max(1, Math.min(size / MIN_CHUNK, 4 * Runtime.getRuntime().availableProcessors()));
+        List<Future<?>> futures = new ArrayList<Future<?>>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int from = (int)((long)size * i / chunks);
+            final int to   = (int)((long)size * (i + 1) / chunks);
+            futures.add(executor.submit(new Runnable() {
+                public void run() {
+                    task.run(from, to);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.uri;
+
+/**
+ * A CharSequence that refers to a range of another CharSequence without copying its characters.
+ * Only the toString method creates a new String.
+ *
+ */
+final class CharSlice implements CharSequence {
+    private final CharSequence sequence;
+    private final int start;
+    private final int end;
+
+    CharSlice(CharSequence sequence, int start, int end) {
+        this.sequence = sequence;
+        this.start    = start;
+        this.end      = end;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return sequence.charAt(start + index);
+    }
+
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException(from + ", " + to);
+        }
+        return new CharSlice(sequence, start + from, start + to);
+    }
+
+    public String toString() {
+        return sequence.subSequence(start, end).toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.uri;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Finds the next delimiter of a URI component. ASCII input backed by a ByteBuffer is scanned eight bytes
+ * at a time, each long word is compared against all delimiters at once (SWAR, SIMD within a register).
+ * A single delimiter in a String is found with String.indexOf, all other input is scanned char by char
+ * and compared with up to four delimiters held in local variables.
+ *
+ */
+final class Delimiters {
+    private static final long ONES  = 0x0101010101010101L;
+    private static final long LOW7  = 0x7F7F7F7F7F7F7F7FL;
+
+    static final long[] SCHEME_END    = of(":/?#");
+    static final long[] AUTHORITY_END = of("/?#");
+    static final long[] PATH_END      = of("?#");
+    static final long[] QUERY_END     = of("#");
+    static final long[] PERCENT       = of("%");
+    static final long[] LINE_END      = of("\n");
+
+    private Delimiters() {
+    }
+
+    /**
+     * Creates the delimiter set for the given ASCII characters, each character is repeated in all bytes
+     * of a long word.
+     */
+    static long[] of(String delimiters) {
+        long[] patterns = new long[delimiters.length()];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = ONES * delimiters.charAt(i);
+        }
+        return patterns;
+    }
+
+    /**
+     * Returns the position of the first delimiter in the given range of the input or the end of the range
+     * if there is none.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param delimiters the set created by {@link #of(String)}
+     * @return
+     */
+    static int next(CharSequence input, int start, int end, long[] delimiters) {
+        if (input instanceof AsciiSequence) {
+            return ((AsciiSequence)input).next(start, end, delimiters);
+        }
+        if (delimiters.length == 1 && input instanceof String) {
+            int index = ((String)input).indexOf((char)(delimiters[0] & 0xFF), start);
+            return (index != -1 && index < end) ? index : end;
+        }
+        if (delimiters.length > 0 && delimiters.length <= 4) {
+            // a shorter set repeats its last delimiter, a lookup per char is slower than the comparisons
+            char d0 = delimiter(delimiters, 0);
+            char d1 = delimiter(delimiters, 1);
+            char d2 = delimiter(delimiters, 2);
+            char d3 = delimiter(delimiters, 3);
+            for (int i = start; i < end; i++) {
+                char c = input.charAt(i);
+                if (c == d0 || c == d1 || c == d2 || c == d3) {
+                    return i;
+                }
+            }
+            return end;
+        }
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            for (long delimiter : delimiters) {
+                if (c == (char)(delimiter & 0xFF)) {
+                    return i;
+                }
+            }
+        }
+        return end;
+    }
+
+    private static char delimiter(long[] delimiters, int index) {
+        return (char)(delimiters[Math.min(index, delimiters.length - 1)] & 0xFF);
+    }
+
+    /**
+     * Returns the position of the first delimiter in the given range of the buffer or the end of the range
+     * if there is none, the position and the limit of the buffer are ignored.
+     *
+     * @param buffer
+     * @param start
+     * @param end
+     * @param delimiters the set created by {@link #of(String)}
+     * @return
+     */
+    static int next(ByteBuffer buffer, int start, int end, long[] delimiters) {
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int i = start;
+        for (; i + 8 <= end; i += 8) {
+            long word = buffer.getLong(i);
+            long found = 0;
+            for (long delimiter : delimiters) {
+                found |= zeroBytes(word ^ delimiter);
+            }
+            if (found != 0) {
+                int bits = bigEndian ? Long.numberOfLeadingZeros(found) : Long.numberOfTrailingZeros(found);
+                return i + (bits >>> 3);
+            }
+        }
+        for (; i < end; i++) {
+            long b = buffer.get(i) & 0xFF;
+            for (long delimiter : delimiters) {
+                if (b == (delimiter & 0xFF)) {
+                    return i;
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns a word with the high bit set in every byte of the given word that is zero, all other
+     * bits are cleared. Unlike the shorter (x - 0x01..) & ~x variant no borrow can mark a wrong byte,
+     * so the result is correct for both byte orders.
+     */
+    private static long zeroBytes(long word) {
+        long t = (word & LOW7) + LOW7;
+        return ~(t | word | LOW7);
+    }
+}
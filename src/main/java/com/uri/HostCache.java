@@ -0,0 +1,176 @@
+package com.uri;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, thread safe cache that maps raw host names to their normalized form. The entries are
+ * spread over several segments with a lock of their own, so threads looking up different hosts
+ * rarely wait for each other. Each segment evicts its entries by the configured policy once it is full.
+ *
+ * <code>
+ *   URI.hostCache(new HostCache(50000, HostCache.Eviction.LRU));
+ *   // ...
+ *   long hits = URI.hostCache().hits();
+ * </code>
+ *
+ */
+public final class HostCache {
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * The entry that is evicted from a full segment.
+     */
+    public enum Eviction {
+        /** the least recently used entry */
+        LRU,
+        /** the oldest entry */
+        FIFO
+    }
+
+    private final Segment[] segments;
+    private final int       capacity;
+    private final Eviction  eviction;
+
+    /**
+     * @param capacity the maximum number of entries, 0 disables the cache
+     * @param eviction
+     */
+    public HostCache(int capacity, Eviction eviction) {
+        this(capacity, eviction, segmentsFor(capacity));
+    }
+
+    HostCache(int capacity, Eviction eviction, int segments) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.eviction = eviction;
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment(capacity / segments, eviction == Eviction.LRU);
+        }
+    }
+
+    private static int segmentsFor(int capacity) {
+        int segments = 1;
+        while (segments < MAX_SEGMENTS && segments * 2 <= capacity) {
+            segments *= 2;
+        }
+        return segments;
+    }
+
+    /**
+     * @param host
+     * @return the normalized host or null if the host is not cached
+     */
+    public String get(String host) {
+        Segment segment = segmentFor(host);
+        synchronized (segment) {
+            String normalized = segment.get(host);
+            if (normalized != null) {
+                segment.hits++;
+            } else {
+                segment.misses++;
+            }
+            return normalized;
+        }
+    }
+
+    /**
+     * Caches the normalized form of the host, a full segment evicts one of its entries.
+     *
+     * @param host
+     * @param normalized
+     */
+    public void put(String host, String normalized) {
+        Segment segment = segmentFor(host);
+        if (segment.capacity > 0) {
+            synchronized (segment) {
+                segment.put(host, normalized);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries, the counters are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Eviction eviction() {
+        return eviction;
+    }
+
+    /**
+     * @return the number of lookups that found the host
+     */
+    public long hits() {
+        long hits = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                hits += segment.hits;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that did not find the host
+     */
+    public long misses() {
+        long misses = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                misses += segment.misses;
+            }
+        }
+        return misses;
+    }
+
+    public String toString() {
+        return "HostCache[" + eviction + ", " + size() + "/" + capacity + ", hits=" + hits() + ", misses=" + misses() + "]";
+    }
+
+    private Segment segmentFor(String host) {
+        int hash = host.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[(hash & 0x7FFFFFFF) % segments.length];
+    }
+
+    private static final class Segment extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private long      hits   = 0;
+        private long      misses = 0;
+
+        Segment(int capacity, boolean accessOrder) {
+            super(16, 0.75f, accessOrder);
+            this.capacity = capacity;
+        }
+
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > capacity;
+        }
+    }
+}
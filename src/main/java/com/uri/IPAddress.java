@@ -0,0 +1,197 @@
+package com.uri;
+
+/**
+ * Parses and formats the textual form of IPv4 and IPv6 addresses. An IPv4 address is held in an int,
+ * an IPv6 address in two longs holding the upper and lower 64 bits.
+ *
+ */
+final class IPAddress {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private IPAddress() {
+    }
+
+    /**
+     * Parses an IPv4 address in dotted decimal notation as defined by RFC 3986, that is four decimal
+     * octets between 0 and 255 without leading zeros.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @return the address as unsigned value or -1 if the range is not an IPv4 address
+     */
+    static long parseIPv4(CharSequence input, int start, int end) {
+        long address = 0;
+        int  octets  = 0;
+        int  i       = start;
+        while (octets < 4) {
+            int octet = 0;
+            int digits = 0;
+            while (i < end && digits < 4) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                digits++;
+                i++;
+            }
+            if (digits == 0 || octet > 255 || (digits > 1 && input.charAt(i - digits) == '0')) {
+                return -1;
+            }
+            address = (address << 8) | octet;
+            if (++octets < 4) {
+                if (i == end || input.charAt(i) != '.') {
+                    return -1;
+                }
+                i++;
+            }
+        }
+        return (i == end) ? address : -1;
+    }
+
+    /**
+     * Parses an IPv6 address as defined by RFC 4291, the brackets of an IP literal must not be part
+     * of the range. Up to eight groups of hex digits, one "::" for one or more groups of zeros and
+     * an IPv4 address as the last 32 bits are accepted.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param address array receiving the upper 64 bits at index 0 and the lower 64 bits at index 1
+     * @return true if the range is an IPv6 address
+     */
+    static boolean parseIPv6(CharSequence input, int start, int end, long[] address) {
+        int[] groups = new int[8];
+        int count = 0;
+        int compress = -1;
+        int i = start;
+        if (end - start >= 2 && input.charAt(i) == ':' && input.charAt(i + 1) == ':') {
+            compress = 0;
+            i += 2;
+        }
+        while (i < end) {
+            if (count == 8) {
+                return false;
+            }
+            int j = i;
+            int group = 0;
+            while (j < end && j - i < 4 && Character.digit(input.charAt(j), 16) != -1 && input.charAt(j) < 128) {
+                group = group * 16 + Character.digit(input.charAt(j), 16);
+                j++;
+            }
+            if (j < end && input.charAt(j) == '.') {
+                // an IPv4 address takes the last two groups
+                long ipv4 = parseIPv4(input, i, end);
+                if (ipv4 == -1 || count > 6) {
+                    return false;
+                }
+                groups[count++] = (int)(ipv4 >>> 16);
+                groups[count++] = (int)(ipv4 & 0xFFFF);
+                break;
+            }
+            if (j == i) {
+                return false;
+            }
+            groups[count++] = group;
+            if (j == end) {
+                break;
+            }
+            if (input.charAt(j) != ':' || ++j == end) {
+                return false;
+            }
+            if (input.charAt(j) == ':') {
+                if (compress != -1) {
+                    return false;
+                }
+                compress = count;
+                j++;
+            }
+            i = j;
+        }
+        if ((compress == -1) ? count != 8 : count > 7) {
+            return false;
+        }
+
+        // move the groups after "::" to the end
+        if (compress != -1) {
+            int moved = count - compress;
+            System.arraycopy(groups, compress, groups, 8 - moved, moved);
+            for (int k = compress; k < 8 - moved; k++) {
+                groups[k] = 0;
+            }
+        }
+        long high = 0;
+        long low  = 0;
+        for (int k = 0; k < 4; k++) {
+            high = (high << 16) | groups[k];
+            low  = (low << 16) | groups[k + 4];
+        }
+        address[0] = high;
+        address[1] = low;
+        return true;
+    }
+
+    static String formatIPv4(int address) {
+        return ((address >>> 24) & 0xFF) + "." + ((address >>> 16) & 0xFF) + "." + ((address >>> 8) & 0xFF) + "." + (address & 0xFF);
+    }
+
+    /**
+     * Formats an IPv6 address in the canonical form recommended by RFC 5952: lower case hex digits
+     * without leading zeros, the longest run of two or more zero groups replaced by "::" and IPv4
+     * mapped addresses with the IPv4 address in dotted decimal notation.
+     *
+     * @param high the upper 64 bits
+     * @param low the lower 64 bits
+     * @return
+     */
+    static String formatIPv6(long high, long low) {
+        int[] groups = new int[8];
+        for (int k = 0; k < 4; k++) {
+            groups[k]     = (int)(high >>> (48 - 16 * k)) & 0xFFFF;
+            groups[k + 4] = (int)(low >>> (48 - 16 * k)) & 0xFFFF;
+        }
+        if (high == 0 && (low >>> 32) == 0xFFFFL) {
+            return "::ffff:" + formatIPv4((int)low);
+        }
+
+        int bestStart = -1;
+        int bestLength = 1;
+        for (int k = 0; k < 8; k++) {
+            int length = 0;
+            while (k + length < 8 && groups[k + length] == 0) {
+                length++;
+            }
+            if (length > bestLength) {
+                bestStart  = k;
+                bestLength = length;
+            }
+            k += length;
+        }
+
+        StringBuilder result = new StringBuilder(39);
+        for (int k = 0; k < 8; k++) {
+            if (k == bestStart) {
+                result.append("::");
+                k += bestLength - 1;
+                continue;
+            }
+            if (result.length() > 0 && result.charAt(result.length() - 1) != ':') {
+                result.append(':');
+            }
+            appendHex(result, groups[k]);
+        }
+        return result.toString();
+    }
+
+    private static void appendHex(StringBuilder result, int group) {
+        boolean leading = true;
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            int digit = (group >>> shift) & 0xF;
+            if (digit != 0 || !leading || shift == 0) {
+                result.append(HEX_DIGITS[digit]);
+                leading = false;
+            }
+        }
+    }
+}
@@ -3,15 +3,15 @@ package com.uri;
 import java.net.IDN;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import com.uri.idn.SimpleIDN;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A class to parse and construct URIs.
@@ -23,72 +23,51 @@ public class URI {
     
     private final static char   DEFAULT_DELIMITER = '&';
     
-    private final static String ALPHA          = "a-zA-Z";
-    private final static String DIGIT          = "0-9";
-    private final static String HEX            = "a-fA-F0-9";
-    private final static String UNRESERVED     = ALPHA + DIGIT + "-._~";
-    private final static String SUBDELIM       = "!$&'()*+,;=";
-    private final static String COMMON         = UNRESERVED + SUBDELIM;
-    private final static String PERCENT        = "%["+HEX+"]{2}";
-    
-    private final static String RegExUserInfo  = "(?:["+COMMON+":]|"+PERCENT+")*";
-    private final static String RegExScheme    = "^(["+ALPHA+"]+["+ALPHA+DIGIT+"+-.]*)";
-    
-    private final static String RegExNamedHost = "(?:[^\\[\\]:/?#])*";
-    private final static String RegExIPV6Host  = "\\[["+HEX+":.]+\\]";
-    private final static String RegExIPFuture  = "(?:\\[v["+HEX+".]+["+COMMON+":]+\\])";
-    private final static String RegExHost      = "("+RegExNamedHost+"|"+RegExIPV6Host+"|"+RegExIPFuture+")?";
-    
-    private final static String RegExRequestURI = "(?:([^?#]*))?(?:\\?([^#]*))?";
-    
-    private final static String RegExAuthority =
-          "\\A^" +
-          "(?:([^\\[\\]]*)@)?" +   // user info
-          RegExHost+"?" +          // host
-          "(?::([^:@\\[\\]]*))?" + // port
-          "$\\Z";
-    private final static String RegExURI =
-          "\\A" +
-          "(?:([^:/?#]+):)?" +       // scheme
-          "(?:\\/\\/([^\\/?#]*))?" + // authority
-          "(?:([^?#]*))?" +          // path
-          "(?:\\?([^#]*))?" +        // query string
-          "(?:#(.*))?" +             // fragment
-          "\\Z";
-    
-    private final static Pattern URIPattern;
-    private final static Pattern AuthorityPattern;
-    
-    private final static Pattern UserInfoPattern;
-    private final static Pattern SchemePattern;
-    private final static Pattern RequestURIPattern;
-    
-    private final static Pattern NamedHostPattern;
-    private final static Pattern IPV6HostPattern;
-    private final static Pattern IPFuturePattern;
+    private final static byte   HOST_NAME         = 0;
+    private final static byte   HOST_IPV4         = 1;
+    private final static byte   HOST_IPV6         = 2;
+    
+    private final static long   FNV_OFFSET_BASIS  = 0xcbf29ce484222325L;
+    private final static long   FNV_PRIME         = 0x100000001b3L;
+    private final static char[] HEX_DIGITS        = "0123456789ABCDEF".toCharArray();
+    
+    // number of distinct hosts parseAll keeps normalized per batch
+    private final static int    MAX_BATCH_HOSTS   = 4096;
+    
+    // normalized named hosts by their raw value, shared by all threads
+    private static volatile HostCache hostCache = new HostCache(10000, HostCache.Eviction.LRU);
+    
+    // bounds used by isValid, kept per thread to avoid any allocation
+    private final static ThreadLocal<int[]> ScratchBounds = new ThreadLocal<int[]>() {
+        protected int[] initialValue() {
+            return new int[URIScanner.BOUNDS_SIZE];
+        }
+    };
     
     private final Vector<NameValuePair> queries = new Vector<NameValuePair>();
     private String scheme    = null;
     private String username  = null;
     private String userpass  = null;
     private String host      = null;
+    private byte   hostType  = HOST_NAME;
+    private int    ipv4      = 0;
+    private long   ipv6High  = 0;
+    private long   ipv6Low   = 0;
     private int    port      = -1;
     private String path      = null;
     private String fragment  = null;
     
+    // raw components of a lazily parsed URI, normalized on first access
+    private String pendingHost  = null;
+    private String pendingPath  = null;
+    private String pendingQuery = null;
+    
     private char   delimiter = DEFAULT_DELIMITER;
     
+    // scanner bounds reused by reparse
+    private int[]  scanBounds = null;
+    
     static {
-        URIPattern        = Pattern.compile(RegExURI);
-        AuthorityPattern  = Pattern.compile(RegExAuthority);
-        UserInfoPattern   = Pattern.compile(RegExUserInfo);
-        SchemePattern     = Pattern.compile(RegExScheme);
-        RequestURIPattern = Pattern.compile(RegExRequestURI);
-        
-        NamedHostPattern = Pattern.compile(RegExNamedHost);
-        IPV6HostPattern  = Pattern.compile(RegExIPV6Host);
-        IPFuturePattern  = Pattern.compile(RegExIPFuture);
-        
         DefaultPortMap.put("acap",     674);
         DefaultPortMap.put("dict",     2628);
         DefaultPortMap.put("ftp",      21);
@@ -124,6 +103,8 @@ public class URI {
      * @return
      */
     private static String mergePath(URI baseURI, URI referenceURI) {
+        baseURI.resolvePath();
+        referenceURI.resolvePath();
         String basePath = (baseURI.path == null || baseURI.path.isEmpty()) ? "" : baseURI.path;
         
         if (!baseURI.authority().isEmpty() && basePath.isEmpty()) {
@@ -145,6 +126,64 @@ public class URI {
         return basePath;
     }
     
+    /**
+     * Checks the conditions of {@link #toASCII()} on the components of a validated input.
+     */
+    private static boolean isComposable(CharSequence url, int[] bounds) {
+        int userStart = bounds[URIScanner.USERINFO_START];
+        int userEnd   = bounds[URIScanner.USERINFO_START + 1];
+        boolean userinfo = false;
+        if (userStart != -1) {
+            int colon = userStart;
+            while (colon < userEnd && url.charAt(colon) != ':') {
+                colon++;
+            }
+            if (colon == userStart && colon + 1 < userEnd) {
+                // userpass given but no username
+                return false;
+            }
+            userinfo = userStart < userEnd && !(colon == userStart && colon + 1 == userEnd);
+        }
+        
+        int hostStart = bounds[URIScanner.HOST_START];
+        int hostEnd   = bounds[URIScanner.HOST_START + 1];
+        boolean authority = userinfo || hostStart < hostEnd;
+        
+        int portStart = bounds[URIScanner.PORT_START];
+        if (!authority && portStart != -1) {
+            int port = URIScanner.portNumber(url, portStart, bounds[URIScanner.PORT_START + 1]);
+            if (port != -1) {
+                String scheme = URIScanner.component(url, bounds, URIScanner.SCHEME_START);
+                Integer inferred = (scheme != null) ? DefaultPortMap.get(scheme.toLowerCase()) : null;
+                authority = (inferred == null || inferred.intValue() != port);
+            }
+        }
+        
+        int pathStart = bounds[URIScanner.PATH_START];
+        int pathEnd   = bounds[URIScanner.PATH_START + 1];
+        CharSequence path = url;
+        if (URIUtils.hasDotSegments(url, pathStart, pathEnd) || URIUtils.indexOf(url, pathStart, pathEnd, '%') != -1) {
+            try {
+                path = URIUtils.removeDotSegments(URIUtils.normalizeString(url.subSequence(pathStart, pathEnd).toString(), true));
+            } catch (URISyntaxException e) {
+                return false;
+            }
+            pathStart = 0;
+            pathEnd   = path.length();
+        }
+        int length = pathEnd - pathStart;
+        if (length >= 2 && path.charAt(pathStart) == '/' && path.charAt(pathStart + 1) == '/') {
+            return false;
+        }
+        // a single '/' is omitted
+        boolean pathDefined = length > 1 || (length == 1 && path.charAt(pathStart) != '/');
+        
+        if (!authority && !pathDefined) {
+            return false;
+        }
+        return !authority || URIScanner.isDefined(bounds, URIScanner.SCHEME_START);
+    }
+    
     private static String toUserInfo(String username, String userpass) {
         String userinfo = "";
         userinfo += (isDefined(username)) ? username : "";
@@ -153,22 +192,378 @@ public class URI {
     }
     
     public static URI parse(String url) throws URISyntaxException {
-        Matcher matcher = URIPattern.matcher(url);
-        if (matcher.find()) {
-            String scheme    = matcher.group(1);
-            String authority = matcher.group(2);
-            String path      = matcher.group(3);
-            String query     = matcher.group(4);
-            String fragment  = matcher.group(5);
-            URI uri = new URI()
-                .withScheme(scheme)
-                .withAuthority(authority)
-                .withPath(path)
-                .withQuery(query)
-                .withFragment(fragment);
-            return uri;
-        }
-        throw new URISyntaxException(url, "Some components could not be parsed!");
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        return parse(url, bounds, URIScanner.scan(url, 0, url.length(), bounds), false);
+    }
+    
+    /**
+     * Parses a URI like {@link #parse(String)} but defers the normalization of host, path and query
+     * until they are accessed for the first time. The input is still validated completely, this saves
+     * the work for all components that are never read, e.g. when only scheme or port are of interest.
+     * 
+     * Hosts that need an IDN conversion are normalized immediately.
+     * 
+     * @param url
+     * @return
+     * @throws URISyntaxException
+     */
+    public static URI parseLazy(String url) throws URISyntaxException {
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        return parse(url, bounds, URIScanner.scan(url, 0, url.length(), bounds), true);
+    }
+    
+    /**
+     * Parses a URI like {@link #parse(String)} without throwing an exception for invalid input. Instead
+     * the returned result holds the kind of error and the position of the offending character. Input
+     * is checked completely before the URI is created, so invalid input neither creates an exception
+     * nor a partially parsed URI.
+     * 
+     * @param url
+     * @return the result holding either the URI or the error
+     */
+    public static URIParseResult tryParse(CharSequence url) {
+        return tryParse(url, new int[URIScanner.BOUNDS_SIZE], null);
+    }
+    
+    /**
+     * Parses all given inputs like {@link #tryParse(CharSequence)}, the result at each index belongs to
+     * the input at the same index. Failures are reported in the results, no exception is thrown for
+     * invalid input.
+     * 
+     * The whole batch shares one set of scanner bounds and the normalized hosts, so inputs with a
+     * recurring host, e.g. a crawl frontier or a column of an access log, normalize each host only once.
+     * 
+     * @param urls
+     * @return the results in the order of the inputs
+     */
+    public static List<URIParseResult> parseAll(List<? extends CharSequence> urls) {
+        List<URIParseResult> results = new ArrayList<URIParseResult>(urls.size());
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        Map<String, String> hosts = new HashMap<String, String>();
+        for (CharSequence url : urls) {
+            results.add(tryParse(url, bounds, hosts));
+        }
+        return results;
+    }
+    
+    /**
+     * Parses all given inputs, see {@link #parseAll(List)}.
+     * 
+     * @param urls
+     * @return the results in the order of the inputs
+     */
+    public static URIParseResult[] parseAll(CharSequence[] urls) {
+        URIParseResult[] results = new URIParseResult[urls.length];
+        parseRange(urls, 0, urls.length, results, 0);
+        return results;
+    }
+    
+    /**
+     * Parses all given inputs like {@link #parseAll(List)}, but splits them into chunks that are parsed
+     * by the given executor. Each chunk has its own scanner bounds and normalized hosts, the results are
+     * in the order of the inputs.
+     * 
+     * @param urls
+     * @param executor
+     * @return the results in the order of the inputs
+     * @throws InterruptedException when the thread is interrupted while waiting for the chunks
+     */
+    public static List<URIParseResult> parseAll(List<? extends CharSequence> urls, ExecutorService executor)
+            throws InterruptedException {
+        final CharSequence[] inputs = urls.toArray(new CharSequence[urls.size()]);
+        final URIParseResult[] results = new URIParseResult[inputs.length];
+        Batch.run(inputs.length, executor, new Batch.Task() {
+            public void run(int from, int to) {
+                parseRange(inputs, from, to, results, 0);
+            }
+        });
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Parses all given inputs in parallel and returns their canonical form, that is {@link #toASCII()}
+     * of each parsed URI. See {@link #parseAll(List, ExecutorService)} for how the work is split.
+     * 
+     * @param urls
+     * @param executor
+     * @return the canonical forms in the order of the inputs, null for each input that is not valid
+     * @throws InterruptedException when the thread is interrupted while waiting for the chunks
+     */
+    public static List<String> toASCIIAll(List<? extends CharSequence> urls, ExecutorService executor)
+            throws InterruptedException {
+        final CharSequence[] inputs = urls.toArray(new CharSequence[urls.size()]);
+        final String[] results = new String[inputs.length];
+        Batch.run(inputs.length, executor, new Batch.Task() {
+            public void run(int from, int to) {
+                URIParseResult[] parsed = new URIParseResult[to - from];
+                parseRange(inputs, from, to, parsed, from);
+                for (int i = from; i < to; i++) {
+                    URI uri = parsed[i - from].uri();
+                    try {
+                        results[i] = (uri != null) ? uri.toASCII() : null;
+                    } catch (URISyntaxException e) {
+                        results[i] = null;
+                    }
+                }
+            }
+        });
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Parses the inputs between from and to, the result of input i is stored at index i - offset.
+     */
+    private static void parseRange(CharSequence[] urls, int from, int to, URIParseResult[] results, int offset) {
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        Map<String, String> hosts = new HashMap<String, String>();
+        for (int i = from; i < to; i++) {
+            results[i - offset] = tryParse(urls[i], bounds, hosts);
+        }
+    }
+    
+    /**
+     * Validates and parses the input with the given bounds.
+     * 
+     * @param hosts normalized hosts by their raw value or null
+     */
+    static URIParseResult tryParse(CharSequence url, int[] bounds, Map<String, String> hosts) {
+        URIError error = URIScanner.validate(url, 0, url.length(), bounds);
+        if (error != null) {
+            return new URIParseResult(error, bounds[URIScanner.ERROR_INDEX]);
+        }
+        try {
+            URI uri = new URI();
+            uri.parseScanned(url, bounds, URIScanner.VALID, false, hosts);
+            return new URIParseResult(uri);
+        } catch (URISyntaxException e) {
+            // not reached, the input was validated before
+            return new URIParseResult(URIError.SYNTAX, e.getIndex());
+        }
+    }
+    
+    /**
+     * Checks if the given input is a valid URI, that is {@link #parse(String)} accepts it and
+     * {@link #toASCII()} of the parsed URI does not fail. The input is checked in place without
+     * creating a URI, no objects are allocated unless the host needs an IDN conversion or the path
+     * contains dot segments or percent encoded octets.
+     * 
+     * @param url
+     * @return true if the input is a valid URI
+     */
+    public static boolean isValid(CharSequence url) {
+        int[] bounds = ScratchBounds.get();
+        return URIScanner.validate(url, 0, url.length(), bounds) == null && isComposable(url, bounds);
+    }
+    
+    /**
+     * Returns the normalized host of the given input, the same value {@link #host()} of the parsed URI
+     * returns. Only scheme and authority are scanned and checked, the rest of the input is skipped, so
+     * this is considerably cheaper than parsing the whole URI when only the host is needed, e.g. to
+     * route or shard requests.
+     * 
+     * @param url
+     * @return the host or null if the input has no authority
+     * @throws URISyntaxException when scheme or authority are not valid
+     */
+    public static String extractHost(CharSequence url) throws URISyntaxException {
+        int[] bounds = scanSite(url);
+        String host = URIScanner.component(url, bounds, URIScanner.HOST_START);
+        return (host != null) ? normalizeHost(host) : null;
+    }
+    
+    /**
+     * Returns the origin of the given input, that is the lower case scheme, the normalized host and the
+     * port if it differs from the default port of the scheme, e.g. 'https://www.example.com:8443'.
+     * User info, path, query and fragment are not part of the origin. Like {@link #extractHost(CharSequence)}
+     * only scheme and authority are scanned and checked.
+     * 
+     * @param url
+     * @return the origin or null if the input has no scheme or no host
+     * @throws URISyntaxException when scheme or authority are not valid
+     */
+    public static String extractOrigin(CharSequence url) throws URISyntaxException {
+        int[] bounds = scanSite(url);
+        String scheme = URIScanner.component(url, bounds, URIScanner.SCHEME_START);
+        String host = URIScanner.component(url, bounds, URIScanner.HOST_START);
+        if (scheme == null || host == null) {
+            return null;
+        }
+        scheme = scheme.toLowerCase();
+        StringBuilder origin = new StringBuilder(scheme).append("://").append(normalizeHost(host));
+        int port = -1;
+        if (URIScanner.isDefined(bounds, URIScanner.PORT_START)) {
+            port = URIScanner.portNumber(url, bounds[URIScanner.PORT_START], bounds[URIScanner.PORT_START + 1]);
+        }
+        Integer inferred = DefaultPortMap.get(scheme);
+        if (port != -1 && (inferred == null || inferred.intValue() != port)) {
+            origin.append(':').append(port);
+        }
+        return origin.toString();
+    }
+    
+    /**
+     * Returns a 64 bit FNV-1a hash of the normalized host of the given input, that is the hash of the
+     * characters {@link #extractHost(CharSequence)} returns. The host is normalized while it is hashed,
+     * no String is created unless the host contains non ASCII characters.
+     * 
+     * @param url
+     * @return the hash of the host or 0 if the input has no authority
+     * @throws URISyntaxException when scheme or authority are not valid
+     */
+    public static long hostHash(CharSequence url) throws URISyntaxException {
+        int[] bounds = scanSite(url);
+        int start = bounds[URIScanner.HOST_START];
+        int end   = bounds[URIScanner.HOST_START + 1];
+        if (start == -1) {
+            return 0;
+        }
+        if (!URIScanner.isNamedHost(url, start, end)) {
+            return hash(FNV_OFFSET_BASIS, url, start, end);
+        }
+        if (URIScanner.indexOfInvalidHostName(url, start, end) != -1) {
+            // the host needs an IDN conversion
+            String host = normalizeHost(url.subSequence(start, end).toString());
+            return hash(FNV_OFFSET_BASIS, host, 0, host.length());
+        }
+        
+        // lower case, decode octets of unreserved characters and encode characters which are not allowed,
+        // see URIUtils.normalizeString and URIUtils.normalize
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            char c = toLowerCase(url.charAt(i));
+            if (c == '%' && i < end - 2) {
+                char first  = toUpperCase(url.charAt(i + 1));
+                char second = toUpperCase(url.charAt(i + 2));
+                int value = Character.digit(second, 16);
+                if (first == '-') {
+                    value = -value;
+                } else if (first != '+') {
+                    value += 16 * Character.digit(first, 16);
+                }
+                if (value >= 0 && value < 128 && URIScanner.is((char)value, URIScanner.UNRESERVED)) {
+                    hash = hashEncoded(hash, toLowerCase((char)value));
+                } else {
+                    hash = hashEncoded(hash, '%');
+                    hash = hashEncoded(hash, first);
+                    hash = hashEncoded(hash, second);
+                }
+                i += 2;
+            } else {
+                hash = hashEncoded(hash, c);
+            }
+        }
+        return hash;
+    }
+    
+    /**
+     * Scans scheme and authority of the input into the scratch bounds of this thread and checks them.
+     */
+    private static int[] scanSite(CharSequence url) throws URISyntaxException {
+        int[] bounds = ScratchBounds.get();
+        URIScanner.clear(bounds);
+        URIScanner.scanSite(url, 0, url.length(), bounds);
+        int result = URIScanner.VALID;
+        if (URIScanner.isDefined(bounds, URIScanner.AUTHORITY_START)
+                && !URIScanner.scanAuthority(url, bounds[URIScanner.AUTHORITY_START], bounds[URIScanner.AUTHORITY_START + 1], bounds)) {
+            result = URIScanner.INVALID_AUTHORITY;
+        }
+        URIError error = URIScanner.validateSite(url, bounds, result);
+        if (error != null) {
+            throw new URISyntaxException(url.toString(), error.message(), bounds[URIScanner.ERROR_INDEX]);
+        }
+        return bounds;
+    }
+    
+    private static long hash(long hash, CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+    
+    /**
+     * Hashes the character the same way {@link URIUtils#normalize(String, String)} with REGNAME writes it.
+     */
+    private static long hashEncoded(long hash, char c) {
+        if (URIUtils.isRegNameChar(c)) {
+            return (hash ^ c) * FNV_PRIME;
+        }
+        hash = (hash ^ '%') * FNV_PRIME;
+        hash = (hash ^ HEX_DIGITS[(c >> 4) & 0xF]) * FNV_PRIME;
+        return (hash ^ HEX_DIGITS[c & 0xF]) * FNV_PRIME;
+    }
+    
+    private static char toLowerCase(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char)(c + ('a' - 'A')) : c;
+    }
+    
+    private static char toUpperCase(char c) {
+        return (c >= 'a' && c <= 'z') ? (char)(c - ('a' - 'A')) : c;
+    }
+    
+    /**
+     * Parses a URI from ASCII encoded bytes, e.g. the request target of an HTTP request line. The bytes
+     * are not decoded as a whole, only the parsed components are turned into strings. Input that contains
+     * non ASCII bytes is decoded as UTF-8 first.
+     * 
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return
+     * @throws URISyntaxException
+     */
+    public static URI parse(byte[] bytes, int offset, int length) throws URISyntaxException {
+        return parse(ByteBuffer.wrap(bytes, offset, length));
+    }
+    
+    /**
+     * Parses a URI from the ASCII encoded bytes between position and limit of the given buffer, the
+     * position of the buffer is not changed. See {@link #parse(byte[], int, int)} for more details.
+     * 
+     * @param buffer
+     * @return
+     * @throws URISyntaxException
+     */
+    public static URI parse(ByteBuffer buffer) throws URISyntaxException {
+        if (!AsciiSequence.isAscii(buffer)) {
+            return parse(AsciiSequence.decode(buffer));
+        }
+        CharSequence input = new AsciiSequence(buffer, buffer.position(), buffer.limit());
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        return parse(input, bounds, URIScanner.scan(input, 0, input.length(), bounds), false);
+    }
+    
+    /**
+     * Creates a URI from an input that was already split by the {@link URIScanner}.
+     * 
+     * @param url the scanned input
+     * @param bounds the component boundaries found by the scanner
+     * @param result the result of the scan
+     * @param lazy true to defer the normalization of host, path and query
+     * @return
+     * @throws URISyntaxException
+     */
+    static URI parse(CharSequence url, int[] bounds, int result, boolean lazy) throws URISyntaxException {
+        URI uri = new URI();
+        uri.parseScanned(url, bounds, result, lazy, null);
+        return uri;
+    }
+    
+    /**
+     * @return the cache of normalized host names or null if hosts are not cached
+     */
+    public static HostCache hostCache() {
+        return hostCache;
+    }
+    
+    /**
+     * Replaces the cache that keeps the normalized form of named hosts, by default the 10000 least
+     * recently used hosts are kept.
+     * 
+     * @param cache the new cache or null to normalize every host again
+     */
+    public static void hostCache(HostCache cache) {
+        hostCache = cache;
     }
     
     public static URI parseURL(URL url) throws URISyntaxException {
@@ -219,6 +614,27 @@ public class URI {
         return recompose();
     }
     
+    /**
+     * Resets all components and parses the given input into this instance, the result is the same as
+     * {@link #parse(String)} would create. The internal storage, e.g. of the query parameters, is reused,
+     * which makes it possible to parse large amounts of URIs with a single instance and little garbage.
+     * When the input is not valid an exception is thrown and the instance keeps the components parsed
+     * up to that point.
+     * 
+     * @param url
+     * @return this instance
+     * @throws URISyntaxException
+     */
+    public URI reparse(CharSequence url) throws URISyntaxException {
+        if (scanBounds == null) {
+            scanBounds = new int[URIScanner.BOUNDS_SIZE];
+        }
+        int result = URIScanner.scan(url, 0, url.length(), scanBounds);
+        reset();
+        parseScanned(url, scanBounds, result, false, null);
+        return this;
+    }
+    
     public URI withAuthority(String authority) throws URISyntaxException {
         parseAuthority(authority);
         return this;
@@ -226,6 +642,7 @@ public class URI {
     
     public URI withHost(String host) throws URISyntaxException {
         this.host = null;
+        this.pendingHost = null;
         parseHost(host);
         return this;
     }
@@ -268,6 +685,7 @@ public class URI {
     
     public URI withPath(String path) throws URISyntaxException {
         this.path = null;
+        this.pendingPath = null;
         parsePath(path);
         return this;
     }
@@ -293,18 +711,23 @@ public class URI {
      */
     public URI withRequestURI(String request) throws URISyntaxException {
         path = null;
+        pendingPath = null;
         queries.clear();
+        pendingQuery = null;
         parseRequestURI(request);
         return this;
     }
     
     public URI addParam(String key, String value) {
+        resolveQuery();
         parseQuery(key, value);
         return this;
     }
     
     public void queryDelimiter(char delimiter) {
         if (this.delimiter != delimiter) {
+            // a deferred query is still split with the old delimiter
+            resolveQuery();
             this.delimiter = delimiter;
             String query = query();
             parseQuery(query);
@@ -312,6 +735,7 @@ public class URI {
     }
     
     public URI sortQuery() {
+        resolveQuery();
         Collections.sort(this.queries);
         return this;
     }
@@ -333,18 +757,71 @@ public class URI {
     }
     
     public String host() {
+        resolveHost();
         return host;
     }
     
+    /**
+     * @return true if the host is an IPv4 address in dotted decimal notation
+     */
+    public boolean isIPv4() {
+        resolveHost();
+        return host != null && hostType == HOST_IPV4;
+    }
+    
+    /**
+     * @return true if the host is an IP literal holding a valid IPv6 address
+     */
+    public boolean isIPv6() {
+        resolveHost();
+        return host != null && hostType == HOST_IPV6;
+    }
+    
+    /**
+     * Returns the address of the host in network byte order.
+     * 
+     * @return 4 bytes for an IPv4 address, 16 bytes for an IPv6 address or null if the host is no IP address
+     */
+    public byte[] ipBytes() {
+        if (isIPv4()) {
+            return new byte[] { (byte)(ipv4 >>> 24), (byte)(ipv4 >>> 16), (byte)(ipv4 >>> 8), (byte)ipv4 };
+        } else if (isIPv6()) {
+            byte[] bytes = new byte[16];
+            for (int i = 0; i < 8; i++) {
+                bytes[i]     = (byte)(ipv6High >>> (56 - 8 * i));
+                bytes[i + 8] = (byte)(ipv6Low >>> (56 - 8 * i));
+            }
+            return bytes;
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the canonical text of the host address, IPv6 addresses are written as recommended by
+     * RFC 5952 without brackets, e.g. '2001:db8::1' for the host '[2001:0DB8:0:0:0:0:0:1]'.
+     * 
+     * @return the address or null if the host is no IP address
+     */
+    public String ipAddress() {
+        if (isIPv4()) {
+            return IPAddress.formatIPv4(ipv4);
+        } else if (isIPv6()) {
+            return IPAddress.formatIPv6(ipv6High, ipv6Low);
+        }
+        return null;
+    }
+    
     public int port() {
         return port;
     }
     
     public String path() {
-        return (host != null && path != null && !path.startsWith("/")) ? "/" + path : path;
+        resolvePath();
+        return (host() != null && path != null && !path.startsWith("/")) ? "/" + path : path;
     }
     
     public String query() {
+        resolveQuery();
         Vector<String> result = new Vector<String>();
         for (NameValuePair pair : queries) {
             result.add(pair.toString());
@@ -353,6 +830,7 @@ public class URI {
     }
     
     public List<NameValuePair> queries() {
+        resolveQuery();
         return queries;
     }
     
@@ -385,6 +863,7 @@ public class URI {
         String userinfo = userinfo();
         
         result.append(userinfo != null && !userinfo.isEmpty() ? userinfo + "@" : "");
+        String host = host();
         result.append(host != null ? host : "");
         
         if (port != -1 && port != inferredPort()) {
@@ -455,6 +934,8 @@ public class URI {
      * @throws URISyntaxException
      */
     public URI join(URI uri) throws URISyntaxException {
+        resolvePath();
+        uri.resolvePath();
         String targetScheme    = null;
         String targetAuthority = null;
         String targetPath      = null;
@@ -545,28 +1026,90 @@ public class URI {
         builder.append(isDefined(path) ? path : "");
         builder.append(isDefined(query) ? "?" + query : "");
         builder.append(isDefined(fragment) ? "#" + fragment : "");
-        return SimpleIDN.toASCII(builder.toString());
+        return builder.toString();
+    }
+    
+    private void reset() {
+        scheme       = null;
+        username     = null;
+        userpass     = null;
+        host         = null;
+        port         = -1;
+        path         = null;
+        fragment     = null;
+        delimiter    = DEFAULT_DELIMITER;
+        pendingHost  = null;
+        pendingPath  = null;
+        pendingQuery = null;
+        queries.clear();
+    }
+    
+    /**
+     * Applies the components of a scanned input.
+     * 
+     * @param hosts normalized hosts by their raw value shared by a batch of inputs or null
+     */
+    private void parseScanned(CharSequence url, int[] bounds, int result, boolean lazy, Map<String, String> hosts)
+            throws URISyntaxException {
+        if (result == URIScanner.INVALID_URI) {
+            throw new URISyntaxException(url.toString(), "Some components could not be parsed!");
+        }
+        
+        parseScheme(URIScanner.component(url, bounds, URIScanner.SCHEME_START));
+        if (result == URIScanner.INVALID_AUTHORITY) {
+            String authority = URIScanner.component(url, bounds, URIScanner.AUTHORITY_START);
+            throw new URISyntaxException(authority, "No valid authority given");
+        }
+        if (URIScanner.isDefined(bounds, URIScanner.AUTHORITY_START)) {
+            parseAuthority(url, bounds, lazy, hosts);
+        }
+        if (lazy) {
+            deferPath(URIScanner.component(url, bounds, URIScanner.PATH_START));
+            deferQuery(URIScanner.component(url, bounds, URIScanner.QUERY_START));
+        } else {
+            parsePath(URIScanner.component(url, bounds, URIScanner.PATH_START));
+            parseQuery(URIScanner.component(url, bounds, URIScanner.QUERY_START));
+        }
+        parseFragment(URIScanner.component(url, bounds, URIScanner.FRAGMENT_START));
     }
     
     private void parseAuthority(String authority) throws URISyntaxException {
         if (authority != null) {
-            Matcher matcher = AuthorityPattern.matcher(authority);
-            if (!matcher.matches()) {
+            int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+            if (!URIScanner.scanAuthority(authority, 0, authority.length(), bounds)) {
                 throw new URISyntaxException(authority, "No valid authority given");
             }
-            String userinfo = matcher.group(1);
-            String host     = matcher.group(2);
-            String port     = matcher.group(3);
-            withUserInfo(userinfo);
+            parseAuthority(authority, bounds, false, null);
+        }
+    }
+    
+    /**
+     * Applies user info, host and port of an already scanned authority.
+     */
+    private void parseAuthority(CharSequence input, int[] bounds, boolean lazy, Map<String, String> hosts)
+            throws URISyntaxException {
+        withUserInfo(URIScanner.component(input, bounds, URIScanner.USERINFO_START));
+        String host = URIScanner.component(input, bounds, URIScanner.HOST_START);
+        if (lazy) {
+            deferHost(host);
+        } else if (hosts != null && host != null) {
+            String normalized = hosts.get(host);
+            if (normalized == null) {
+                normalized = normalizeHost(host);
+                if (hosts.size() < MAX_BATCH_HOSTS) {
+                    hosts.put(host, normalized);
+                }
+            }
+            applyHost(normalized);
+        } else {
             withHost(host);
-            withPort(port);
         }
+        withPort(URIScanner.component(input, bounds, URIScanner.PORT_START));
     }
     
     private void parseScheme(String scheme) throws URISyntaxException {
         if (scheme != null) {
-            Matcher matcher = SchemePattern.matcher(scheme);
-            if (!matcher.matches()) {
+            if (!URIScanner.isScheme(scheme)) {
                 throw new URISyntaxException(scheme, "No valid scheme");
             }
             this.scheme = scheme.toLowerCase();
@@ -585,23 +1128,88 @@ public class URI {
     }
     
     private boolean isUserInfoValid(String userInfo) {
-        Matcher matcher = UserInfoPattern.matcher(userInfo);
-        return matcher.matches();
+        return URIScanner.isUserInfo(userInfo);
     }
     
     private void parseHost(String host) throws URISyntaxException {
         if (host == null) {
             return;
         }
-        if (NamedHostPattern.matcher(host).matches()) {
-            String ascii = IDN.toASCII(host);
-            this.host = URIUtils.normalize(URIUtils.normalizeString(ascii, false), URIUtils.REGNAME);
-        } else if (IPV6HostPattern.matcher(host).matches()) {
-            this.host = host;
-        } else if (IPFuturePattern.matcher(host).matches()) {
-            this.host = host;
+        applyHost(normalizeHost(host));
+    }
+    
+    /**
+     * Sets the normalized host and keeps IP addresses in their binary form.
+     */
+    private void applyHost(String host) {
+        this.host = host;
+        this.hostType = HOST_NAME;
+        int length = host.length();
+        long ipv4 = IPAddress.parseIPv4(host, 0, length);
+        if (ipv4 != -1) {
+            this.hostType = HOST_IPV4;
+            this.ipv4 = (int)ipv4;
+        } else if (length > 2 && host.charAt(0) == '[') {
+            long[] ipv6 = new long[2];
+            if (IPAddress.parseIPv6(host, 1, length - 1, ipv6)) {
+                this.hostType = HOST_IPV6;
+                this.ipv6High = ipv6[0];
+                this.ipv6Low  = ipv6[1];
+            }
+        }
+    }
+    
+    /**
+     * Returns the normalized form of a valid host, named hosts are converted with IDN, lower cased and
+     * percent encoded, IP literals are returned unchanged.
+     */
+    static String normalizeHost(String host) throws URISyntaxException {
+        int length = host.length();
+        if (IPAddress.parseIPv4(host, 0, length) != -1) {
+            // nothing to convert or normalize
+            return host;
+        }
+        if (URIScanner.isNamedHost(host, 0, length)) {
+            HostCache cache = hostCache;
+            String normalized = (cache != null) ? cache.get(host) : null;
+            if (normalized == null) {
+                String ascii = IDN.toASCII(host);
+                normalized = URIUtils.normalize(URIUtils.normalizeString(ascii, false), URIUtils.REGNAME);
+                if (cache != null) {
+                    cache.put(host, normalized);
+                }
+            }
+            return normalized;
+        } else if (URIScanner.isIPV6Host(host, 0, length)) {
+            return host;
+        } else if (URIScanner.isIPFutureHost(host, 0, length)) {
+            return host;
+        }
+        throw new URISyntaxException(host, "Host is not valid");
+    }
+    
+    /**
+     * Keeps a named host for normalization on first access, as long as normalizing it can not fail.
+     */
+    private void deferHost(String host) throws URISyntaxException {
+        if (host != null && URIScanner.isNamedHost(host, 0, host.length())
+                && URIScanner.isASCIIHostName(host) && URIUtils.isNormalizable(host)) {
+            this.host = null;
+            this.pendingHost = host;
         } else {
-            throw new URISyntaxException(host, "Host is not valid");
+            withHost(host);
+        }
+    }
+    
+    private void resolveHost() {
+        if (pendingHost != null) {
+            String host = pendingHost;
+            pendingHost = null;
+            try {
+                parseHost(host);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Deferred host could not be normalized", e);
+            }
         }
     }
     
@@ -623,6 +1231,27 @@ public class URI {
         }
     }
     
+    private void deferPath(String path) throws URISyntaxException {
+        if (isDefined(path) && URIUtils.isNormalizable(path)) {
+            this.path = null;
+            this.pendingPath = path;
+        } else {
+            parsePath(path);
+        }
+    }
+    
+    private void resolvePath() {
+        if (pendingPath != null) {
+            String path = pendingPath;
+            pendingPath = null;
+            try {
+                parsePath(path);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Deferred path could not be normalized", e);
+            }
+        }
+    }
+    
     private void parseQuery(String key, String value) {
         key   = (key != null && !key.isEmpty()) ? key : null;
         value = (value != null && !value.isEmpty()) ? value : null;
@@ -633,6 +1262,7 @@ public class URI {
     
     private void parseQuery(String query) {
         queries.clear();
+        pendingQuery = null;
         if (query != null) {
             String[] parts = query.split(Character.toString(delimiter));
             for (String part : parts) {
@@ -648,6 +1278,17 @@ public class URI {
         }
     }
     
+    private void deferQuery(String query) {
+        queries.clear();
+        pendingQuery = query;
+    }
+    
+    private void resolveQuery() {
+        if (pendingQuery != null) {
+            parseQuery(pendingQuery);
+        }
+    }
+    
     private void parseFragment(String fragment) {
         if (isDefined(fragment)) {
             this.fragment = fragment;
@@ -655,20 +1296,22 @@ public class URI {
     }
     
     private void parseRequestURI(String request) throws URISyntaxException {
-        boolean found = (scheme != null) ? scheme.matches("^https?$") : false;
+        boolean found = "http".equals(scheme) || "https".equals(scheme);
         if (isAbsolute() && !found) {
             throw new URISyntaxException(request, "Cannot set an HTTP request URI for non-HTTP URI.");
         }
         
-        Matcher matcher = RequestURIPattern.matcher(request);
-        if (matcher.matches()) {
-            String path = matcher.group(1);
-            String query = matcher.group(2);
-            parsePath(path);
-            parseQuery(query);
-        } else {
+        if (request.indexOf('#') != -1) {
             throw new URISyntaxException(request, "Request is not valid");
         }
+        int index = request.indexOf('?');
+        if (index == -1) {
+            parsePath(request);
+            parseQuery((String)null);
+        } else {
+            parsePath(request.substring(0, index));
+            parseQuery(request.substring(index + 1));
+        }
     }
 
 }
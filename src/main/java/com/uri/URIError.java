@@ -0,0 +1,27 @@
+package com.uri;
+
+/**
+ * The kinds of errors reported by {@link URI#tryParse(CharSequence)} and {@link URIFileReader} for input that is
+ * not a valid URI.
+ *
+ */
+public enum URIError {
+    SYNTAX("Some components could not be parsed"),
+    SCHEME("No valid scheme"),
+    AUTHORITY("No valid authority given"),
+    USER_INFO("User info is not valid"),
+    HOST("Host is not valid"),
+    PORT("Invalid port specified"),
+    PERCENT_ENCODING("Invalid percent encoded octet"),
+    TOO_LONG("Line does not fit into the window of the reader");
+    
+    private final String message;
+    
+    private URIError(String message) {
+        this.message = message;
+    }
+    
+    public String message() {
+        return message;
+    }
+}
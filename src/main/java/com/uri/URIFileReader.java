@@ -0,0 +1,188 @@
+package com.uri;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a file with one URI per line and parses each line. The file is memory mapped in windows, so files
+ * larger than 2 GB can be read as well. Lines are parsed directly from the mapped bytes like
+ * {@link URI#parse(ByteBuffer)} does, they are neither copied nor decoded as a whole.
+ *
+ * Lines end with "\n" or "\r\n", empty lines are skipped. Invalid lines are returned as failed results
+ * like {@link URI#tryParse(CharSequence)} returns them, a line that does not fit into the window together
+ * with its line end is reported as {@link URIError#TOO_LONG} error whose index is the window size, that is
+ * the first byte of the line that could not be read.
+ *
+ * The error index of an ASCII line counts bytes from the start of the line. A line with non ASCII
+ * characters is decoded as UTF-8 before it is parsed, so its error index counts chars of the decoded
+ * line and not bytes of the file.
+ *
+ * <code>
+ *   URIFileReader reader = new URIFileReader(new File("urls.txt"));
+ *   try {
+ *       while (reader.hasNext()) {
+ *           URIParseResult result = reader.next();
+ *           // ...
+ *       }
+ *   } finally {
+ *       reader.close();
+ *   }
+ * </code>
+ *
+ */
+public final class URIFileReader implements Iterator<URIParseResult>, Closeable {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final RandomAccessFile    file;
+    private final FileChannel         channel;
+    private final long                size;
+    private final int                 windowSize;
+    private final int[]               bounds = new int[URIScanner.BOUNDS_SIZE];
+    private final Map<String, String> hosts  = new HashMap<String, String>();
+
+    private MappedByteBuffer window;
+    private long             windowStart = 0;
+    private int              offset      = 0;
+
+    private URIParseResult   next     = null;
+    private long             line     = 0;
+    private long             failures = 0;
+
+    public URIFileReader(File file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param file
+     * @param windowSize the number of bytes mapped at once, the maximum length of a line including its end
+     * @throws IOException
+     */
+    public URIFileReader(File file, int windowSize) throws IOException {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.file       = new RandomAccessFile(file, "r");
+        this.channel    = this.file.getChannel();
+        this.size       = channel.size();
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readLine();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read the file", e);
+            }
+        }
+        return next != null;
+    }
+
+    public URIParseResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        URIParseResult result = next;
+        next = null;
+        if (!result.isValid()) {
+            failures++;
+        }
+        return result;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return the number of the line the last result belongs to, starting with 1
+     */
+    public long line() {
+        return line;
+    }
+
+    /**
+     * @return the number of invalid lines returned so far
+     */
+    public long failures() {
+        return failures;
+    }
+
+    public void close() throws IOException {
+        window = null;
+        file.close();
+    }
+
+    /**
+     * Finds the next non empty line and parses it.
+     *
+     * @return the result or null at the end of the file
+     */
+    private URIParseResult readLine() throws IOException {
+        while (windowStart + offset < size) {
+            int end = Delimiters.next(window, offset, window.limit(), Delimiters.LINE_END);
+            if (end == window.limit() && windowStart + end < size) {
+                if (offset > 0) {
+                    // the line continues beyond the window, map the next window from its start
+                    map(windowStart + offset);
+                    continue;
+                }
+                line++;
+                skipLine();
+                return new URIParseResult(URIError.TOO_LONG, windowSize);
+            }
+            int start = offset;
+            offset = end + 1;
+            line++;
+            if (end > start && window.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end > start) {
+                return parse(start, end);
+            }
+        }
+        return null;
+    }
+
+    private URIParseResult parse(int start, int end) {
+        CharSequence input;
+        if (AsciiSequence.isAscii(window, start, end)) {
+            input = new AsciiSequence(window, start, end);
+        } else {
+            ByteBuffer bytes = window.duplicate();
+            bytes.limit(end).position(start);
+            input = AsciiSequence.decode(bytes);
+        }
+        return URI.tryParse(input, bounds, hosts);
+    }
+
+    /**
+     * Moves behind the end of a line that is longer than the window.
+     */
+    private void skipLine() throws IOException {
+        while (true) {
+            map(windowStart + window.limit());
+            int end = Delimiters.next(window, 0, window.limit(), Delimiters.LINE_END);
+            if (end < window.limit() || windowStart + end == size) {
+                offset = end + 1;
+                return;
+            }
+        }
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        offset      = 0;
+        window      = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+    }
+}
@@ -0,0 +1,53 @@
+package com.uri;
+
+/**
+ * The result of {@link URI#tryParse(CharSequence)}, holds either the parsed URI or the kind of error
+ * and the position of the offending character in the input.
+ *
+ */
+public final class URIParseResult {
+    private final URI      uri;
+    private final URIError error;
+    private final int      errorIndex;
+    
+    URIParseResult(URI uri) {
+        this.uri        = uri;
+        this.error      = null;
+        this.errorIndex = -1;
+    }
+    
+    URIParseResult(URIError error, int errorIndex) {
+        this.uri        = null;
+        this.error      = error;
+        this.errorIndex = errorIndex;
+    }
+    
+    public boolean isValid() {
+        return uri != null;
+    }
+    
+    /**
+     * @return the parsed URI or null if the input was not valid
+     */
+    public URI uri() {
+        return uri;
+    }
+    
+    /**
+     * @return the kind of error or null if the input was valid
+     */
+    public URIError error() {
+        return error;
+    }
+    
+    /**
+     * @return the position of the offending character in the input or -1 if the input was valid
+     */
+    public int errorIndex() {
+        return errorIndex;
+    }
+    
+    public String toString() {
+        return isValid() ? uri.toString() : error.message() + " at index " + errorIndex;
+    }
+}
@@ -0,0 +1,539 @@
+package com.uri;
+
+import java.net.IDN;
+
+/**
+ * A hand written scanner that splits a URI string into its sub components (see section 3 of RFC 3986)
+ * in a single left to right pass. Instead of matching regular expressions every character is looked up
+ * in a small table of character classes.
+ *
+ * The boundaries of all found components are stored in an int array, every component occupies two
+ * slots, the start offset (inclusive) and the end offset (exclusive). A start offset of -1 marks a
+ * component that is not present in the input. When the input is not valid the position of the offending
+ * character is stored in the ERROR_INDEX slot.
+ *
+ */
+final class URIScanner {
+
+    // character class flags
+    static final int ALPHA      = 0x01;
+    static final int DIGIT      = 0x02;
+    static final int HEX        = 0x04;
+    static final int UNRESERVED = 0x08;
+    static final int SUBDELIM   = 0x10;
+    static final int SCHEME     = 0x20;
+    static final int HOSTDELIM  = 0x40;
+
+    // component slots in the bounds array
+    static final int SCHEME_START    = 0;
+    static final int AUTHORITY_START = 2;
+    static final int USERINFO_START  = 4;
+    static final int HOST_START      = 6;
+    static final int PORT_START      = 8;
+    static final int PATH_START      = 10;
+    static final int QUERY_START     = 12;
+    static final int FRAGMENT_START  = 14;
+    static final int ERROR_INDEX     = 16;
+    static final int BOUNDS_SIZE     = 17;
+
+    // results of the scan method
+    static final int VALID             = 0;
+    static final int INVALID_URI       = 1;
+    static final int INVALID_AUTHORITY = 2;
+
+    private static final int[] CHARS = new int[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHARS[c] |= ALPHA | UNRESERVED | SCHEME;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHARS[c] |= ALPHA | UNRESERVED | SCHEME;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHARS[c] |= DIGIT | HEX | UNRESERVED | SCHEME;
+        }
+        for (char c : "abcdefABCDEF".toCharArray()) {
+            CHARS[c] |= HEX;
+        }
+        for (char c : "-._~".toCharArray()) {
+            CHARS[c] |= UNRESERVED;
+        }
+        for (char c : "!$&'()*+,;=".toCharArray()) {
+            CHARS[c] |= SUBDELIM;
+        }
+        for (char c : "+,-.".toCharArray()) {
+            CHARS[c] |= SCHEME;
+        }
+        for (char c : "[]:/?#".toCharArray()) {
+            CHARS[c] |= HOSTDELIM;
+        }
+    }
+
+    private URIScanner() {
+    }
+
+    static boolean is(char c, int flags) {
+        return c < 128 && (CHARS[c] & flags) != 0;
+    }
+
+    static boolean isDefined(int[] bounds, int component) {
+        return bounds[component] != -1;
+    }
+
+    static String component(CharSequence input, int[] bounds, int component) {
+        int start = bounds[component];
+        return (start != -1) ? input.subSequence(start, bounds[component + 1]).toString() : null;
+    }
+
+    /**
+     * Scans the given range of the input and stores the boundaries of scheme, authority, path, query
+     * and fragment. When an authority is found it is split into user info, host and port as well.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param bounds array of at least BOUNDS_SIZE elements receiving the component offsets
+     * @return VALID, INVALID_URI or INVALID_AUTHORITY
+     */
+    static int scan(CharSequence input, int start, int end, int[] bounds) {
+        clear(bounds);
+        int index = scanSite(input, start, end, bounds);
+
+        // path, always present even if empty
+        int p = Delimiters.next(input, index, end, Delimiters.PATH_END);
+        set(bounds, PATH_START, index, p);
+        index = p;
+
+        // query
+        if (index < end && input.charAt(index) == '?') {
+            p = Delimiters.next(input, index + 1, end, Delimiters.QUERY_END);
+            set(bounds, QUERY_START, index + 1, p);
+            index = p;
+        }
+
+        // fragment, the only remaining option is a '#', it must not span several lines
+        if (index < end) {
+            p = index + 1;
+            while (p < end && !isLineTerminator(input.charAt(p))) {
+                p++;
+            }
+            if (p < end && !isFinalLineTerminator(input, p, end)) {
+                bounds[ERROR_INDEX] = p;
+                return INVALID_URI;
+            }
+            set(bounds, FRAGMENT_START, index + 1, p);
+        }
+
+        if (isDefined(bounds, AUTHORITY_START)) {
+            if (!scanAuthority(input, bounds[AUTHORITY_START], bounds[AUTHORITY_START + 1], bounds)) {
+                return INVALID_AUTHORITY;
+            }
+        }
+        return VALID;
+    }
+
+    /**
+     * Scans scheme and authority of the given range and stops right after the authority, path, query
+     * and fragment are left undefined. The authority is not split, use {@link #scanAuthority} for that.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param bounds array of cleared bounds receiving the component offsets
+     * @return the position after the authority, or after the scheme if there is no authority
+     */
+    static int scanSite(CharSequence input, int start, int end, int[] bounds) {
+        // scheme, all characters up to the first ':' unless one of '/', '?', '#' comes first
+        int index = start;
+        int p = Delimiters.next(input, start, end, Delimiters.SCHEME_END);
+        if (p < end && p > start && input.charAt(p) == ':') {
+            set(bounds, SCHEME_START, start, p);
+            index = p + 1;
+        }
+
+        // authority
+        if (index + 1 < end && input.charAt(index) == '/' && input.charAt(index + 1) == '/') {
+            p = Delimiters.next(input, index + 2, end, Delimiters.AUTHORITY_END);
+            set(bounds, AUTHORITY_START, index + 2, p);
+            index = p;
+        }
+        return index;
+    }
+
+    static void clear(int[] bounds) {
+        for (int i = 0; i < BOUNDS_SIZE; i++) {
+            bounds[i] = -1;
+        }
+    }
+
+    /**
+     * Splits the given authority range into user info, host and port.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param bounds
+     * @return true if the authority is valid
+     */
+    static boolean scanAuthority(CharSequence input, int start, int end, int[] bounds) {
+        bounds[USERINFO_START] = bounds[USERINFO_START + 1] = -1;
+        bounds[HOST_START] = bounds[HOST_START + 1] = -1;
+        bounds[PORT_START] = bounds[PORT_START + 1] = -1;
+        bounds[ERROR_INDEX] = -1;
+
+        // the user info ends at the last '@' that is not preceded by a square bracket
+        int at = -1;
+        for (int p = start; p < end; p++) {
+            char c = input.charAt(p);
+            if (c == '[' || c == ']') {
+                break;
+            }
+            if (c == '@') {
+                at = p;
+            }
+        }
+
+        int index = start;
+        if (at != -1) {
+            set(bounds, USERINFO_START, start, at);
+            index = at + 1;
+        }
+
+        if (index == end) {
+            return true;
+        }
+
+        char c = input.charAt(index);
+        if (c == ':') {
+            // no host but a port
+            return scanPort(input, index, end, bounds);
+        }
+
+        if (c == '[') {
+            int p = index + 1;
+            while (p < end && input.charAt(p) != ']') {
+                p++;
+            }
+            if (p == end || !(isIPV6Host(input, index, p + 1) || isIPFutureHost(input, index, p + 1))) {
+                bounds[ERROR_INDEX] = index;
+                return false;
+            }
+            set(bounds, HOST_START, index, p + 1);
+            return scanPort(input, p + 1, end, bounds);
+        }
+
+        int p = index;
+        while (p < end && !is(input.charAt(p), HOSTDELIM)) {
+            p++;
+        }
+        set(bounds, HOST_START, index, p);
+        return scanPort(input, p, end, bounds);
+    }
+
+    private static boolean scanPort(CharSequence input, int start, int end, int[] bounds) {
+        if (start == end) {
+            return true;
+        }
+        if (input.charAt(start) != ':') {
+            bounds[ERROR_INDEX] = start;
+            return false;
+        }
+        for (int p = start + 1; p < end; p++) {
+            char c = input.charAt(p);
+            if (c == ':' || c == '@' || c == '[' || c == ']') {
+                bounds[ERROR_INDEX] = p;
+                return false;
+            }
+        }
+        set(bounds, PORT_START, start + 1, end);
+        return true;
+    }
+
+    /**
+     * Scans the given range and checks all components the same way {@link URI#parse(String)} does, but
+     * instead of throwing an exception the kind of error is returned and the position of the offending
+     * character is stored in the ERROR_INDEX slot of the bounds.
+     *
+     * Only hosts with non ASCII characters are handed to java.net.IDN, all other checks do not allocate.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param bounds
+     * @return null if the input is valid, the kind of error otherwise
+     */
+    static URIError validate(CharSequence input, int start, int end, int[] bounds) {
+        int result = scan(input, start, end, bounds);
+        if (result == INVALID_URI) {
+            return URIError.SYNTAX;
+        }
+
+        URIError error = validateSite(input, bounds, result);
+        if (error != null) {
+            return error;
+        }
+
+        int index;
+        if ((index = URIUtils.indexOfInvalidOctet(input, bounds[PATH_START], bounds[PATH_START + 1])) != -1) {
+            return fail(bounds, index, URIError.PERCENT_ENCODING);
+        }
+        return null;
+    }
+
+    /**
+     * Checks scheme, user info, host and port of a scanned input, the checks of {@link #validate} without
+     * the path.
+     *
+     * @param input
+     * @param bounds the bounds of the scanned input, the authority already split
+     * @param result the result of the scan, VALID or INVALID_AUTHORITY
+     * @return the error or null if scheme and authority are valid
+     */
+    static URIError validateSite(CharSequence input, int[] bounds, int result) {
+        int index;
+        if (isDefined(bounds, SCHEME_START)
+                && (index = indexOfInvalidScheme(input, bounds[SCHEME_START], bounds[SCHEME_START + 1])) != -1) {
+            return fail(bounds, index, URIError.SCHEME);
+        }
+        if (result == INVALID_AUTHORITY) {
+            return URIError.AUTHORITY;
+        }
+
+        if (isDefined(bounds, USERINFO_START)
+                && (index = indexOfInvalidUserInfo(input, bounds[USERINFO_START], bounds[USERINFO_START + 1], true)) != -1) {
+            return fail(bounds, index, URIError.USER_INFO);
+        }
+
+        int hostStart = bounds[HOST_START];
+        int hostEnd   = bounds[HOST_START + 1];
+        if (hostStart != -1 && hostStart < hostEnd && input.charAt(hostStart) != '[') {
+            index = indexOfInvalidHostName(input, hostStart, hostEnd);
+            if (index != -1 && input.charAt(index) < 128) {
+                return fail(bounds, index, URIError.HOST);
+            } else if (index != -1) {
+                String ascii;
+                try {
+                    ascii = IDN.toASCII(input.subSequence(hostStart, hostEnd).toString());
+                } catch (IllegalArgumentException e) {
+                    return fail(bounds, hostStart, URIError.HOST);
+                }
+                if (!URIUtils.isNormalizable(ascii)) {
+                    return fail(bounds, hostStart, URIError.PERCENT_ENCODING);
+                }
+            } else if ((index = URIUtils.indexOfInvalidOctet(input, hostStart, hostEnd)) != -1) {
+                return fail(bounds, index, URIError.PERCENT_ENCODING);
+            }
+        }
+
+        if (isDefined(bounds, PORT_START)
+                && (index = indexOfInvalidPort(input, bounds[PORT_START], bounds[PORT_START + 1])) != -1) {
+            return fail(bounds, index, URIError.PORT);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of the offending character if the port is not accepted by URI.withPort, a port
+     * is accepted if it is a number between 1 and 65535 (or -1 for no port).
+     */
+    static int indexOfInvalidPort(CharSequence input, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        int index = start;
+        char sign = input.charAt(start);
+        if (sign == '+' || sign == '-') {
+            if (++index == end) {
+                return start;
+            }
+        }
+        int port = 0;
+        for (int i = index; i < end; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit == -1) {
+                return i;
+            }
+            port = port * 10 + digit;
+            if (port > 65535) {
+                return start;
+            }
+        }
+        if (sign == '-') {
+            return (port == 1) ? -1 : start;
+        }
+        return (port == 0) ? start : -1;
+    }
+
+    /**
+     * Returns the number of a port that was accepted by {@link #indexOfInvalidPort(CharSequence, int, int)}
+     */
+    static int portNumber(CharSequence input, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        char sign = input.charAt(start);
+        int port = 0;
+        for (int i = (sign == '+' || sign == '-') ? start + 1 : start; i < end; i++) {
+            port = port * 10 + Character.digit(input.charAt(i), 10);
+        }
+        return (sign == '-') ? -port : port;
+    }
+
+    static boolean isScheme(CharSequence input) {
+        return indexOfInvalidScheme(input, 0, input.length()) == -1;
+    }
+
+    /**
+     * Returns the position of the first character that is not allowed in a scheme or -1 if the scheme is valid.
+     */
+    static int indexOfInvalidScheme(CharSequence input, int start, int end) {
+        if (start == end || !is(input.charAt(start), ALPHA)) {
+            return start;
+        }
+        for (int i = start + 1; i < end; i++) {
+            if (!is(input.charAt(i), SCHEME)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isUserInfo(CharSequence input) {
+        return indexOfInvalidUserInfo(input, 0, input.length(), false) == -1;
+    }
+
+    /**
+     * Returns the position of the first character that is not allowed in the user info or -1 if it is valid.
+     *
+     * @param input
+     * @param start
+     * @param end
+     * @param singleColon true if only one ':' separating user name and password is allowed
+     * @return
+     */
+    static int indexOfInvalidUserInfo(CharSequence input, int start, int end, boolean singleColon) {
+        boolean colon = false;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end || !is(input.charAt(i + 1), HEX) || !is(input.charAt(i + 2), HEX)) {
+                    return i;
+                }
+                i += 2;
+            } else if (c == ':') {
+                if (colon && singleColon) {
+                    return i;
+                }
+                colon = true;
+            } else if (!is(c, UNRESERVED | SUBDELIM)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isNamedHost(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (is(input.charAt(i), HOSTDELIM)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the host only consists of ASCII characters and is accepted unchanged by the
+     * toASCII function of java.net.IDN, that is all labels are between 1 and 63 characters long.
+     * An empty host, a single dot and a trailing dot are allowed.
+     */
+    static boolean isASCIIHostName(CharSequence host) {
+        return indexOfInvalidHostName(host, 0, host.length()) == -1;
+    }
+
+    /**
+     * Returns the position of the first non ASCII character or of the first character of a label which is
+     * empty or too long, -1 if the host name is accepted by {@link #isASCIIHostName(CharSequence)}.
+     */
+    static int indexOfInvalidHostName(CharSequence input, int start, int end) {
+        if (end - start == 1 && input.charAt(start) == '.') {
+            return -1;
+        }
+        int label = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= 128) {
+                return i;
+            }
+            if (c == '.') {
+                if (label == 0) {
+                    return i;
+                }
+                label = 0;
+            } else if (++label > 63) {
+                return i - 63;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks for an IPv6 literal of the form '[' followed by hex digits, ':' or '.' and a closing ']'.
+     */
+    static boolean isIPV6Host(CharSequence input, int start, int end) {
+        if (end - start < 3 || input.charAt(start) != '[' || input.charAt(end - 1) != ']') {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = input.charAt(i);
+            if (c != ':' && c != '.' && !is(c, HEX)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for an IPvFuture literal, e.g. '[v9.3ffe::1]'
+     */
+    static boolean isIPFutureHost(CharSequence input, int start, int end) {
+        if (end - start < 5 || input.charAt(start) != '[' || input.charAt(start + 1) != 'v' || input.charAt(end - 1) != ']') {
+            return false;
+        }
+        char c = input.charAt(start + 2);
+        if (c != '.' && !is(c, HEX)) {
+            return false;
+        }
+        for (int i = start + 3; i < end - 1; i++) {
+            c = input.charAt(i);
+            if (c != ':' && !is(c, UNRESERVED | SUBDELIM)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if the range only consists of a single line terminator (or "\r\n")
+     */
+    private static boolean isFinalLineTerminator(CharSequence input, int start, int end) {
+        if (end - start == 1) {
+            return isLineTerminator(input.charAt(start));
+        }
+        return end - start == 2 && input.charAt(start) == '\r' && input.charAt(start + 1) == '\n';
+    }
+
+    private static URIError fail(int[] bounds, int index, URIError error) {
+        bounds[ERROR_INDEX] = index;
+        return error;
+    }
+
+    private static void set(int[] bounds, int component, int start, int end) {
+        bounds[component] = start;
+        bounds[component + 1] = end;
+    }
+}
@@ -0,0 +1,374 @@
+package com.uri;
+
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Parses a URI that arrives in several chunks, e.g. a request target split across network reads. Every
+ * chunk is scanned when it is fed, the parser keeps the component boundaries found so far and continues
+ * where the previous chunk ended. Input that is too long, has an invalid scheme or authority or a fragment
+ * spanning several lines is rejected as soon as the offending chunk is fed.
+ *
+ * Scheme and host are available as soon as the authority is complete, before the rest of the input arrived.
+ *
+ * The authority is validated like {@link URI#tryParse(CharSequence)} does, every invalid input fails with a
+ * URISyntaxException. This differs from {@link URI#parse(String)} for a host that java.net.IDN rejects, e.g.
+ * one with a label longer than 63 characters: parse passes on the IllegalArgumentException of java.net.IDN.
+ *
+ * <code>
+ *   URIStreamParser parser = new URIStreamParser(8192);
+ *   parser.feed("http://www.exa");
+ *   parser.feed("mple.com/path?q=1");
+ *   String host = parser.host();  // "www.example.com"
+ *   URI uri = parser.finish();
+ * </code>
+ *
+ * A parser is not thread safe, it can be reused for the next input after {@link #reset()}.
+ *
+ */
+public final class URIStreamParser {
+    private static final int SCHEME    = 0;
+    private static final int SITE      = 1;
+    private static final int AUTHORITY = 2;
+    private static final int PATH      = 3;
+    private static final int QUERY     = 4;
+    private static final int FRAGMENT  = 5;
+    private static final int DONE      = 6;
+    private static final int FAILED    = 7;
+
+    private final int            maxLength;
+    private final int[]          bounds  = new int[URIScanner.BOUNDS_SIZE];
+    private final CharsetDecoder decoder = AsciiSequence.UTF8.newDecoder()
+                                               .onMalformedInput(CodingErrorAction.REPLACE)
+                                               .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private char[] chars   = new char[64];
+    private int    length  = 0;
+
+    // bytes of an incomplete UTF-8 sequence at the end of the last chunk
+    private byte[] pending = new byte[4];
+    private int    pendingLength = 0;
+
+    private int    state;
+    private int    position;
+    // start of the component that is currently scanned
+    private int    index;
+    // position of the line terminator that ends the fragment or -1
+    private int    terminator;
+    private String host;
+
+    /**
+     * @param maxLength the maximum number of characters accepted
+     */
+    public URIStreamParser(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Negative maximum length: " + maxLength);
+        }
+        this.maxLength = maxLength;
+        reset();
+    }
+
+    /**
+     * Discards all input fed so far, the parser can be used for the next input afterwards.
+     *
+     * @return this parser
+     */
+    public URIStreamParser reset() {
+        URIScanner.clear(bounds);
+        decoder.reset();
+        length        = 0;
+        pendingLength = 0;
+        state         = SCHEME;
+        position      = 0;
+        index         = 0;
+        terminator    = -1;
+        host          = null;
+        return this;
+    }
+
+    /**
+     * Appends the chunk to the input and scans it.
+     *
+     * @param chunk
+     * @return this parser
+     * @throws URISyntaxException when the input exceeds the maximum length or is not valid
+     */
+    public URIStreamParser feed(CharSequence chunk) throws URISyntaxException {
+        checkState();
+        int count = chunk.length();
+        if (count > maxLength - length) {
+            failTooLong();
+        }
+        ensureCapacity(length + count);
+        for (int i = 0; i < count; i++) {
+            chars[length++] = chunk.charAt(i);
+        }
+        advance(false);
+        return this;
+    }
+
+    /**
+     * Appends the UTF-8 encoded bytes between position and limit of the buffer to the input and scans
+     * them, the position of the buffer is not changed. A multi byte sequence may be split between two
+     * chunks.
+     *
+     * @param chunk
+     * @return this parser
+     * @throws URISyntaxException when the input exceeds the maximum length or is not valid
+     */
+    public URIStreamParser feed(ByteBuffer chunk) throws URISyntaxException {
+        checkState();
+        ByteBuffer in = chunk.duplicate();
+        // UTF-8 never decodes to more characters than bytes, one more for the overflow check
+        int capacity = Math.min(pendingLength + in.remaining(), maxLength - length + 1);
+        ensureCapacity(length + capacity);
+        CharBuffer out = CharBuffer.wrap(chars, length, capacity);
+
+        while (pendingLength > 0 && in.hasRemaining()) {
+            pending[pendingLength++] = in.get();
+            ByteBuffer bytes = ByteBuffer.wrap(pending, 0, pendingLength);
+            decode(bytes, out, false);
+            pendingLength = bytes.remaining();
+            System.arraycopy(pending, bytes.position(), pending, 0, pendingLength);
+        }
+        if (pendingLength == 0) {
+            decode(in, out, false);
+            pendingLength = in.remaining();
+            in.get(pending, 0, pendingLength);
+        }
+
+        length = out.position();
+        if (length > maxLength) {
+            failTooLong();
+        }
+        advance(false);
+        return this;
+    }
+
+    /**
+     * Ends the input and creates the URI, all components are validated and normalized like
+     * {@link URI#parse(String)} does. A host rejected by java.net.IDN fails with a URISyntaxException
+     * while the authority is fed, see above.
+     *
+     * @return
+     * @throws URISyntaxException when the input is not valid
+     */
+    public URI finish() throws URISyntaxException {
+        checkState();
+        if (pendingLength > 0) {
+            ensureCapacity(length + pendingLength);
+            CharBuffer out = CharBuffer.wrap(chars, length, chars.length - length);
+            decode(ByteBuffer.wrap(pending, 0, pendingLength), out, true);
+            pendingLength = 0;
+            length = out.position();
+            if (length > maxLength) {
+                failTooLong();
+            }
+        }
+        advance(true);
+        state = DONE;
+        return URI.parse(CharBuffer.wrap(chars, 0, length), bounds, URIScanner.VALID, false);
+    }
+
+    /**
+     * @return the number of characters fed so far
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return true if scheme and authority are complete, that is the path, query or fragment has started
+     */
+    public boolean isSiteComplete() {
+        return state >= PATH && state != FAILED;
+    }
+
+    /**
+     * @return the lower case scheme or null if the scheme is not known yet or the input has none
+     */
+    public String scheme() {
+        if (state == SCHEME || state == FAILED) {
+            return null;
+        }
+        String scheme = URIScanner.component(CharBuffer.wrap(chars, 0, length), bounds, URIScanner.SCHEME_START);
+        return (scheme != null) ? scheme.toLowerCase() : null;
+    }
+
+    /**
+     * Returns the normalized host, the same value {@link URI#host()} of the finished URI returns.
+     *
+     * @return the host or null if the authority is not complete yet or the input has none
+     */
+    public String host() {
+        return isSiteComplete() ? host : null;
+    }
+
+    /**
+     * Continues scanning at the position the last chunk ended.
+     *
+     * @param end true if no more input follows
+     */
+    private void advance(boolean end) throws URISyntaxException {
+        while (true) {
+            switch (state) {
+            case SCHEME:
+                // all characters up to the first ':' unless one of '/', '?', '#' comes first
+                while (position < length && !isSchemeEnd(chars[position])) {
+                    position++;
+                }
+                if (position == length && !end) {
+                    return;
+                }
+                if (position < length && position > 0 && chars[position] == ':') {
+                    bounds[URIScanner.SCHEME_START]     = 0;
+                    bounds[URIScanner.SCHEME_START + 1] = position;
+                    index = position + 1;
+                    int invalid = URIScanner.indexOfInvalidScheme(CharBuffer.wrap(chars, 0, length), 0, position);
+                    if (invalid != -1) {
+                        fail(URIError.SCHEME.message(), invalid);
+                    }
+                } else {
+                    index = 0;
+                }
+                position = index;
+                state = SITE;
+                break;
+            case SITE:
+                if (length - index < 2 && !end) {
+                    return;
+                }
+                if (length - index >= 2 && chars[index] == '/' && chars[index + 1] == '/') {
+                    index += 2;
+                    state = AUTHORITY;
+                } else {
+                    state = PATH;
+                }
+                position = index;
+                break;
+            case AUTHORITY:
+                while (position < length && chars[position] != '/' && chars[position] != '?' && chars[position] != '#') {
+                    position++;
+                }
+                if (position == length && !end) {
+                    return;
+                }
+                completeAuthority();
+                index = position;
+                state = PATH;
+                break;
+            case PATH:
+                while (position < length && chars[position] != '?' && chars[position] != '#') {
+                    position++;
+                }
+                if (position == length && !end) {
+                    return;
+                }
+                bounds[URIScanner.PATH_START]     = index;
+                bounds[URIScanner.PATH_START + 1] = position;
+                state = startQueryOrFragment();
+                break;
+            case QUERY:
+                while (position < length && chars[position] != '#') {
+                    position++;
+                }
+                if (position == length && !end) {
+                    return;
+                }
+                bounds[URIScanner.QUERY_START]     = index;
+                bounds[URIScanner.QUERY_START + 1] = position;
+                state = startQueryOrFragment();
+                break;
+            case FRAGMENT:
+                // the fragment must not span several lines, only a single final line terminator or "\r\n" is allowed
+                while (position < length) {
+                    if (terminator != -1) {
+                        if (position != terminator + 1 || chars[terminator] != '\r' || chars[position] != '\n') {
+                            fail(URIError.SYNTAX.message(), terminator);
+                        }
+                    } else if (URIScanner.isLineTerminator(chars[position])) {
+                        terminator = position;
+                    }
+                    position++;
+                }
+                if (end) {
+                    bounds[URIScanner.FRAGMENT_START]     = index;
+                    bounds[URIScanner.FRAGMENT_START + 1] = (terminator != -1) ? terminator : length;
+                    state = DONE;
+                }
+                return;
+            default:
+                return;
+            }
+        }
+    }
+
+    /**
+     * Splits and checks the authority that ends at the current position and normalizes the host.
+     */
+    private void completeAuthority() throws URISyntaxException {
+        CharSequence input = CharBuffer.wrap(chars, 0, length);
+        bounds[URIScanner.AUTHORITY_START]     = index;
+        bounds[URIScanner.AUTHORITY_START + 1] = position;
+        int result = URIScanner.scanAuthority(input, index, position, bounds)
+                   ? URIScanner.VALID : URIScanner.INVALID_AUTHORITY;
+        URIError error = URIScanner.validateSite(input, bounds, result);
+        if (error != null) {
+            fail(error.message(), bounds[URIScanner.ERROR_INDEX]);
+        }
+        String host = URIScanner.component(input, bounds, URIScanner.HOST_START);
+        this.host = (host != null) ? URI.normalizeHost(host) : null;
+    }
+
+    /**
+     * Moves past the '?' or '#' at the current position, the end of the input is reached otherwise.
+     */
+    private int startQueryOrFragment() {
+        if (position == length) {
+            return DONE;
+        }
+        index = ++position;
+        return (chars[position - 1] == '?') ? QUERY : FRAGMENT;
+    }
+
+    private void decode(ByteBuffer in, CharBuffer out, boolean end) throws URISyntaxException {
+        CoderResult result = decoder.decode(in, out, end);
+        if (end && result.isUnderflow()) {
+            result = decoder.flush(out);
+        }
+        if (result.isOverflow()) {
+            failTooLong();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            char[] grown = new char[Math.max(capacity, chars.length * 2)];
+            System.arraycopy(chars, 0, grown, 0, length);
+            chars = grown;
+        }
+    }
+
+    private void checkState() {
+        if (state == DONE || state == FAILED) {
+            throw new IllegalStateException("The parser has finished, reset it before feeding new input");
+        }
+    }
+
+    private void failTooLong() throws URISyntaxException {
+        fail("Input exceeds the maximum length of " + maxLength, maxLength);
+    }
+
+    private void fail(String reason, int index) throws URISyntaxException {
+        state = FAILED;
+        throw new URISyntaxException(CharBuffer.wrap(chars, 0, length).toString(), reason, index);
+    }
+
+    private static boolean isSchemeEnd(char c) {
+        return c == ':' || c == '/' || c == '?' || c == '#';
+    }
+}
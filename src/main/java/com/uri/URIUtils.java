@@ -23,61 +23,244 @@ public class URIUtils {
     
     final static Pattern PercentEncodingPattern = Pattern.compile("(?:%([0-9a-fA-F]{2}))");
     
+    // the ASCII characters of QUERY and REGNAME as bit masks, see normalize
+    private final static long[] QUERY_MASK   = mask(QUERY);
+    private final static long[] REGNAME_MASK = mask(REGNAME);
+    
+    // the unreserved characters decoded by normalizeString
+    private final static long[] UNRESERVED_MASK = mask(UNRESERVED);
+    
+    private final static char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    
+    /**
+     * Percent encodes all characters of the query which are not part of the character list.
+     * 
+     * @param query
+     * @param charList
+     * @return the query itself if all of its characters are allowed
+     */
     public static String normalize(String query, String charList) {
-        StringBuffer result = new StringBuffer();
-        for (int i = 0; i < query.length(); i++) {
-            result.append(getPercentEncodedChar(query.charAt(i), charList));
+        long[] mask = maskOf(charList);
+        int length = query.length();
+        int i = 0;
+        while (i < length && isAllowed(query.charAt(i), charList, mask)) {
+            i++;
+        }
+        if (i == length) {
+            return query;
+        }
+        StringBuilder result = new StringBuilder(length + 16);
+        result.append(query, 0, i);
+        for (; i < length; i++) {
+            appendPercentEncodedChar(result, query.charAt(i), charList, mask);
         }
         return result.toString();
     }
 
+    /**
+     * Lower cases the text unless ignoreCase is set, decodes percent encoded octets of unreserved characters
+     * and upper cases the hex digits of all other octets. The text is read once, like Integer.parseInt an
+     * octet may also consist of a sign and one hex digit, e.g. "%-1".
+     * 
+     * @param text
+     * @param ignoreCase
+     * @return the text itself if it is already normalized
+     * @throws URISyntaxException if a '%' followed by at least two characters does not start an octet
+     */
     public static String normalizeString(String text, boolean ignoreCase) throws URISyntaxException {
-        StringBuffer result = new StringBuffer(ignoreCase ? text : text.toLowerCase());
-        try {
-            int index = 0;
-            int found = 0;
-            while ((found = result.indexOf("%", index)) != -1) {
-                if (found < result.length() - 2) {
-                    String hexString = result.substring(found + 1, found + 3);
-                    String replaced = URIUtils.getPercentEncodedChar(hexString, ignoreCase);
-                    result.replace(found, found + 3, replaced);
+        String source = ignoreCase ? text : text.toLowerCase();
+        int length = source.length();
+        StringBuilder result = null;
+        int index = 0;
+        int found;
+        while ((found = Delimiters.next(source, index, length, Delimiters.PERCENT)) < length - 2) {
+            char first  = source.charAt(found + 1);
+            char second = source.charAt(found + 2);
+            if (!isOctet(first, second)) {
+                throw new URISyntaxException(text, "Failed to normalize string");
+            }
+            int value = Character.digit(second, 16);
+            if (first == '-') {
+                value = -value;
+            } else if (first != '+') {
+                value += 16 * Character.digit(first, 16);
+            }
+            boolean decode = value >= 0 && value < 128 && (UNRESERVED_MASK[value >>> 6] & (1L << value)) != 0;
+            if (result == null) {
+                if (!decode && Character.toUpperCase(first) == first && Character.toUpperCase(second) == second) {
+                    // the octet is kept as it is, nothing to copy yet
+                    index = found + 3;
+                    continue;
                 }
-                index++;
+                result = new StringBuilder(length);
+                result.append(source, 0, found);
+            } else {
+                result.append(source, index, found);
             }
-        } catch (Exception e) {
-            throw new URISyntaxException(text, "Failed to normalize string");
+            if (decode) {
+                char c = (char)value;
+                if (ignoreCase || c < 'A' || c > 'Z') {
+                    result.append(c);
+                } else {
+                    result.append(String.valueOf(c).toLowerCase());
+                }
+            } else {
+                result.append('%').append(Character.toUpperCase(first)).append(Character.toUpperCase(second));
+            }
+            index = found + 3;
+        }
+        if (result == null) {
+            return source;
         }
+        result.append(source, index, length);
         return result.toString();
     }
     
-    private static String getPercentEncodedChar(String hexValue, boolean ignoreCase) {
-        int value = Integer.parseInt(hexValue, 16);
-        int index = 0;
-        if ((index = UNRESERVED.indexOf(value)) != -1) {
-            String c = "" + UNRESERVED.charAt(index);
-            return (ignoreCase) ? c : c.toLowerCase();
+    /**
+     * Returns true if {@link #normalizeString(String, boolean)} accepts the given text without
+     * throwing an exception, that is every '%' followed by at least two characters starts a valid octet.
+     * 
+     * @param text
+     * @return
+     */
+    static boolean isNormalizable(String text) {
+        return indexOfInvalidOctet(text, 0, text.length()) == -1;
+    }
+    
+    /**
+     * Returns the position of the first '%' that does not start an octet accepted by
+     * {@link #normalizeString(String, boolean)} or -1 if there is none.
+     * 
+     * @param text
+     * @param start
+     * @param end
+     * @return
+     */
+    static int indexOfInvalidOctet(CharSequence text, int start, int end) {
+        int i = start;
+        while ((i = Delimiters.next(text, i, end, Delimiters.PERCENT)) < end - 2) {
+            if (!isOctet(text.charAt(i + 1), text.charAt(i + 2))) {
+                return i;
+            }
+            i += 3;
         }
-        return "%" + hexValue.toUpperCase();
+        return -1;
+    }
+    
+    /**
+     * Returns true if the two characters form a number accepted by Integer.parseInt with radix 16
+     */
+    private static boolean isOctet(char first, char second) {
+        return (Character.digit(first, 16) != -1 || first == '+' || first == '-') && Character.digit(second, 16) != -1;
     }
     
     public static String getPercentEncodedChar(char c, final String charList) {
-        int index = charList.indexOf(c);
-        if (index == -1) {
-            int value = (int)c;
-            return ("%" + (value < 16 ? "0" : "") + Integer.toHexString(value)).toUpperCase();
+        StringBuilder result = new StringBuilder(5);
+        appendPercentEncodedChar(result, c, charList, maskOf(charList));
+        return result.toString();
+    }
+    
+    /**
+     * Appends the character if it is part of the character list, its percent encoded form otherwise. The
+     * hex digits are those of Integer.toHexString, but at least two and in upper case.
+     */
+    private static void appendPercentEncodedChar(StringBuilder result, char c, String charList, long[] mask) {
+        if (isAllowed(c, charList, mask)) {
+            result.append(c);
+            return;
+        }
+        result.append('%');
+        if (c >= 0x1000) {
+            result.append(HEX_DIGITS[c >>> 12]);
         }
-        return String.valueOf(c);
+        if (c >= 0x100) {
+            result.append(HEX_DIGITS[(c >>> 8) & 0xF]);
+        }
+        result.append(HEX_DIGITS[(c >>> 4) & 0xF]).append(HEX_DIGITS[c & 0xF]);
+    }
+    
+    private static boolean isAllowed(char c, String charList, long[] mask) {
+        return c < 128 ? (mask[c >>> 6] & (1L << c)) != 0 : charList.indexOf(c) != -1;
     }
     
     /**
-     * TODO refactor this algorithm, it's a bit chunky and not so readable
+     * Returns true if the character is one of REGNAME
+     */
+    static boolean isRegNameChar(char c) {
+        return c < 128 && (REGNAME_MASK[c >>> 6] & (1L << c)) != 0;
+    }
+    
+    private static long[] maskOf(String charList) {
+        if (charList == QUERY) {
+            return QUERY_MASK;
+        } else if (charList == REGNAME) {
+            return REGNAME_MASK;
+        }
+        return mask(charList);
+    }
+    
+    private static long[] mask(String charList) {
+        long[] mask = new long[2];
+        for (int i = 0; i < charList.length(); i++) {
+            char c = charList.charAt(i);
+            if (c < 128) {
+                mask[c >>> 6] |= 1L << c;
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * Returns the position of the first occurrence of the character in the given range or -1
+     */
+    static int indexOf(CharSequence text, int start, int end, char c) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Returns true if {@link #removeDotSegments(String)} would change the given range of a path, that is
+     * the path starts with a '.' or '..' segment or contains a segment starting with '.'
      * 
      * @param path
+     * @param start
+     * @param end
      * @return
      */
+    static boolean hasDotSegments(CharSequence path, int start, int end) {
+        if (start < end && path.charAt(start) == '.') {
+            int next = start + 1;
+            if (next < end && path.charAt(next) == '.') {
+                next++;
+            }
+            if (next == end || path.charAt(next) == '/') {
+                return true;
+            }
+        }
+        for (int i = start; i < end - 1; i++) {
+            if (path.charAt(i) == '/' && path.charAt(i + 1) == '.') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * TODO refactor this algorithm, it's a bit chunky and not so readable
+     * 
+     * @param path
+     * @return the path itself if it does not contain dot segments
+     */
     public static String removeDotSegments(String path) {
+        if (!hasDotSegments(path, 0, path.length())) {
+            return path;
+        }
         Stack<String> output = new Stack<String>();
-        String input = new String(path);
+        String input = path;
         
         while (!input.isEmpty()) {
             if (input.startsWith("../") || input.startsWith("./")) {
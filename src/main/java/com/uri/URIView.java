@@ -0,0 +1,188 @@
+package com.uri;
+
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+
+/**
+ * A lightweight, read only view on a URI string. Parsing only records the start and end offsets of all
+ * components, no substrings are created. The accessors return CharSequences that refer to the original
+ * input, a String is only created when toString is called on one of them.
+ *
+ * The components are returned as they appear in the input, they are neither validated nor normalized.
+ * Use {@link #toURI()} to get a fully parsed and normalized {@link URI}.
+ *
+ * <code>
+ *   URIView view = URIView.parse("http://www.example.com/path?page=2");
+ *   if ("www.example.com".contentEquals(view.host())) {
+ *      // ...
+ *   }
+ * </code>
+ *
+ */
+public final class URIView {
+    private final CharSequence input;
+    private final int[] bounds;
+
+    private URIView(CharSequence input, int[] bounds) {
+        this.input  = input;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Splits the given input into its components.
+     *
+     * @param input
+     * @return
+     * @throws URISyntaxException when the input can not be split into components
+     */
+    public static URIView parse(CharSequence input) throws URISyntaxException {
+        int[] bounds = new int[URIScanner.BOUNDS_SIZE];
+        int result = URIScanner.scan(input, 0, input.length(), bounds);
+        if (result == URIScanner.INVALID_URI) {
+            throw new URISyntaxException(input.toString(), "Some components could not be parsed!");
+        } else if (result == URIScanner.INVALID_AUTHORITY) {
+            throw new URISyntaxException(input.toString(), "No valid authority given");
+        }
+        return new URIView(input, bounds);
+    }
+
+    /**
+     * Splits ASCII encoded bytes into components, the bytes are only decoded when toString is called
+     * on one of the returned components. Input that contains non ASCII bytes is decoded as UTF-8 first.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return
+     * @throws URISyntaxException
+     */
+    public static URIView parse(byte[] bytes, int offset, int length) throws URISyntaxException {
+        return parse(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Splits the ASCII encoded bytes between position and limit of the buffer into components, the
+     * position of the buffer is not changed. See {@link #parse(byte[], int, int)} for more details.
+     *
+     * @param buffer
+     * @return
+     * @throws URISyntaxException
+     */
+    public static URIView parse(ByteBuffer buffer) throws URISyntaxException {
+        if (!AsciiSequence.isAscii(buffer)) {
+            return parse(AsciiSequence.decode(buffer));
+        }
+        return parse(new AsciiSequence(buffer, buffer.position(), buffer.limit()));
+    }
+
+    public CharSequence scheme() {
+        return component(URIScanner.SCHEME_START);
+    }
+
+    public CharSequence authority() {
+        return component(URIScanner.AUTHORITY_START);
+    }
+
+    public CharSequence userinfo() {
+        return component(URIScanner.USERINFO_START);
+    }
+
+    public CharSequence host() {
+        return component(URIScanner.HOST_START);
+    }
+
+    /**
+     * Returns the port number given in the input.
+     *
+     * @return the port or -1 if no port is present or it is not a number
+     */
+    public int port() {
+        int start = bounds[URIScanner.PORT_START];
+        int end   = bounds[URIScanner.PORT_START + 1];
+        if (start == -1 || start == end || end - start > 5) {
+            return -1;
+        }
+        int port = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            port = port * 10 + (c - '0');
+        }
+        return port;
+    }
+
+    public CharSequence path() {
+        return component(URIScanner.PATH_START);
+    }
+
+    public CharSequence query() {
+        return component(URIScanner.QUERY_START);
+    }
+
+    public CharSequence fragment() {
+        return component(URIScanner.FRAGMENT_START);
+    }
+
+    /**
+     * Returns the value of the first query parameter with the given name. The query is split with
+     * the default delimiter '&'.
+     *
+     * @param name
+     * @return the value of the parameter, an empty sequence if the parameter has no value or null if not found
+     */
+    public CharSequence queryParam(CharSequence name) {
+        int start = bounds[URIScanner.QUERY_START];
+        int end   = bounds[URIScanner.QUERY_START + 1];
+        if (start == -1) {
+            return null;
+        }
+        while (start <= end) {
+            int next = start;
+            while (next < end && input.charAt(next) != '&') {
+                next++;
+            }
+            int separator = start;
+            while (separator < next && input.charAt(separator) != '=') {
+                separator++;
+            }
+            if (regionEquals(start, separator, name)) {
+                return new CharSlice(input, Math.min(separator + 1, next), next);
+            }
+            start = next + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Creates a fully parsed URI from this view, components are validated and normalized.
+     *
+     * @return
+     * @throws URISyntaxException
+     */
+    public URI toURI() throws URISyntaxException {
+        return URI.parse(input, bounds, URIScanner.VALID, false);
+    }
+
+    public String toString() {
+        return input.toString();
+    }
+
+    private boolean regionEquals(int start, int end, CharSequence other) {
+        if (other.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) != other.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CharSequence component(int component) {
+        int start = bounds[component];
+        return (start != -1) ? new CharSlice(input, start, bounds[component + 1]) : null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.uri.idn;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor over the code points of a range of a character sequence. Unlike {@link CodepointIterator} the
+ * code points are returned as primitive int values, e.g.
+ *
+ * <code>
+ *   CodepointCursor cursor = new CodepointCursor(label, start, end);
+ *   while (cursor.hasNext()) {
+ *       int codepoint = cursor.nextInt();
+ *       // ...
+ *   }
+ * </code>
+ *
+ * A surrogate pair is returned as one supplementary code point if both surrogates are inside the
+ * range, an unpaired surrogate is returned as it is like Character.codePointAt does.
+ *
+ */
+public final class CodepointCursor {
+    private CharSequence sequence;
+    private int start;
+    private int end;
+    private int index;
+    private int count;
+
+    public CodepointCursor(CharSequence sequence) {
+        this(sequence, 0, sequence.length());
+    }
+
+    public CodepointCursor(CharSequence sequence, int start, int end) {
+        reset(sequence, start, end);
+    }
+
+    /**
+     * Moves the cursor to the start of the given range.
+     *
+     * @param sequence
+     * @param start
+     * @param end
+     * @return this cursor
+     */
+    public CodepointCursor reset(CharSequence sequence, int start, int end) {
+        if (start < 0 || start > end || end > sequence.length()) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + "-" + end + " of length " + sequence.length());
+        }
+        this.sequence = sequence;
+        this.start    = start;
+        this.end      = end;
+        this.index    = start;
+        this.count    = -1;
+        return this;
+    }
+
+    /**
+     * Moves the cursor back to the start of the range.
+     *
+     * @return this cursor
+     */
+    public CodepointCursor reset() {
+        index = start;
+        return this;
+    }
+
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    /**
+     * @return the next code point
+     * @throws NoSuchElementException if the end of the range is reached
+     */
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        char c = sequence.charAt(index++);
+        if (Character.isHighSurrogate(c) && index < end) {
+            char low = sequence.charAt(index);
+            if (Character.isLowSurrogate(low)) {
+                index++;
+                return Character.toCodePoint(c, low);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * @return the position of the next code point in the sequence
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return the number of code points in the range
+     */
+    public int count() {
+        if (count == -1) {
+            count = Character.codePointCount(sequence, start, end);
+        }
+        return count;
+    }
+}
@@ -5,27 +5,26 @@ import java.util.Iterator;
 /**
  * This CodepointIterator can be used to iterate over all code points in a string sequence. Code points
  * can be between 1 and 3 bytes and this iterator takes care of advancing to the next code point.
+ * 
+ * Every code point is boxed, loops that do not need an Iterator should use a {@link CodepointCursor}.
  */
 public class CodepointIterator implements Iterator<Integer> {
-    private final String sequence;
-    private int index = 0;
+    private final CodepointCursor cursor;
     
     public CodepointIterator(String sequence) {
-        this.sequence = sequence;
+        this.cursor = new CodepointCursor(sequence);
     }
     
     public boolean hasNext() {
-        return index < sequence.length();
+        return cursor.hasNext();
     }
     
     public Integer next() {
-        int codepoint = sequence.codePointAt(index);
-        index += Character.charCount(codepoint);
-        return codepoint;
+        return cursor.nextInt();
     }
     
     public void reset() {
-        index = 0;
+        cursor.reset();
     }
     
     public void remove() {
@@ -33,7 +32,6 @@ public class CodepointIterator implements Iterator<Integer> {
     }
     
     public int size() {
-        return sequence.codePointCount(0, sequence.length() - 1);
+        return cursor.count();
     }
 }
-
@@ -0,0 +1,202 @@
+package com.uri.idn;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.uri.Batch;
+
+/**
+ * Converts large numbers of hosts between their Unicode and ASCII form with {@link UTS46}. The hosts are
+ * split into chunks which are converted in parallel, every chunk reuses one output buffer for all of its
+ * hosts.
+ *
+ * <code>
+ *   ExecutorService executor = Executors.newFixedThreadPool(4);
+ *   HostConverter.Summary summary = HostConverter.convert(input, output, HostConverter.Direction.TO_ASCII, executor);
+ * </code>
+ *
+ * The class can also be run from the command line, e.g.
+ *
+ * <code>
+ *   java -cp uri.jar com.uri.idn.HostConverter [-unicode] [-threads n] hosts.txt converted.txt
+ * </code>
+ *
+ */
+public final class HostConverter {
+    private static final int     BLOCK_SIZE = 64 * 1024;
+    private static final Charset UTF8       = Charset.forName("UTF-8");
+
+    /**
+     * The form the hosts are converted to.
+     */
+    public enum Direction {
+        /** converts non ASCII labels to Punycode */
+        TO_ASCII,
+        /** decodes Punycode labels */
+        TO_UNICODE
+    }
+
+    /**
+     * The number of hosts read and the number of hosts which could not be converted.
+     */
+    public static final class Summary {
+        private final long hosts;
+        private final long errors;
+
+        Summary(long hosts, long errors) {
+            this.hosts  = hosts;
+            this.errors = errors;
+        }
+
+        public long hosts() {
+            return hosts;
+        }
+
+        public long errors() {
+            return errors;
+        }
+
+        public String toString() {
+            return "Summary[hosts=" + hosts + ", errors=" + errors + "]";
+        }
+    }
+
+    private HostConverter() {
+    }
+
+    /**
+     * Converts all hosts of the list in parallel.
+     *
+     * @param hosts
+     * @param direction
+     * @param executor
+     * @return the converted hosts in the order of the list, null for every host that is not valid
+     * @throws InterruptedException
+     */
+    public static String[] convertAll(List<String> hosts, Direction direction, ExecutorService executor) throws InterruptedException {
+        String[] inputs  = hosts.toArray(new String[hosts.size()]);
+        String[] results = new String[inputs.length];
+        convertAll(inputs, inputs.length, results, direction, executor);
+        return results;
+    }
+
+    /**
+     * Reads one host per line, converts the hosts in blocks and writes one line per host to the
+     * output. The line of a host that is not valid is left empty.
+     *
+     * @param input
+     * @param output
+     * @param direction
+     * @param executor
+     * @return the number of hosts and errors
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    public static Summary convert(BufferedReader input, Writer output, Direction direction, ExecutorService executor)
+            throws IOException, InterruptedException {
+        String[] block   = new String[BLOCK_SIZE];
+        String[] results = new String[BLOCK_SIZE];
+        long hosts  = 0;
+        long errors = 0;
+        int size;
+        do {
+            String line = null;
+            for (size = 0; size < BLOCK_SIZE && (line = input.readLine()) != null; size++) {
+                block[size] = line;
+            }
+            convertAll(block, size, results, direction, executor);
+            for (int i = 0; i < size; i++) {
+                if (results[i] != null) {
+                    output.write(results[i]);
+                } else {
+                    errors++;
+                }
+                output.write('\n');
+            }
+            hosts += size;
+        } while (size == BLOCK_SIZE);
+        output.flush();
+        return new Summary(hosts, errors);
+    }
+
+    private static void convertAll(final String[] hosts, int size, final String[] results, final Direction direction,
+            ExecutorService executor) throws InterruptedException {
+        Batch.run(size, executor, new Batch.Task() {
+            public void run(int from, int to) {
+                convertRange(hosts, from, to, results, direction);
+            }
+        });
+    }
+
+    private static void convertRange(String[] hosts, int from, int to, String[] results, Direction direction) {
+        StringBuilder buffer = new StringBuilder(256);
+        for (int i = from; i < to; i++) {
+            buffer.setLength(0);
+            try {
+                if (direction == Direction.TO_ASCII) {
+                    UTS46.toASCII(hosts[i], buffer);
+                } else {
+                    UTS46.toUnicode(hosts[i], buffer);
+                }
+                results[i] = buffer.toString();
+            } catch (IllegalArgumentException e) {
+                results[i] = null;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Direction direction = Direction.TO_ASCII;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("-"); i++) {
+            if (args[i].equals("-unicode")) {
+                direction = Direction.TO_UNICODE;
+            } else if (args[i].equals("-threads") && i + 1 < args.length) {
+                threads = parseThreads(args[++i]);
+            } else {
+                break;
+            }
+        }
+        if (args.length - i != 2 || threads < 1) {
+            System.err.println("Usage: HostConverter [-unicode] [-threads n] <input> <output>");
+            System.exit(1);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        BufferedReader input = new BufferedReader(new InputStreamReader(new FileInputStream(args[i]), UTF8));
+        Writer output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(args[i + 1]), UTF8));
+        try {
+            long start = System.nanoTime();
+            Summary summary = convert(input, output, direction, executor);
+            long millis = Math.max(1, (System.nanoTime() - start) / 1000000);
+            System.out.println("Converted " + summary.hosts() + " hosts in " + millis + " ms ("
+                    + (summary.hosts() * 1000 / millis) + " hosts/s), " + summary.errors() + " errors");
+        } finally {
+            executor.shutdown();
+            input.close();
+            output.close();
+        }
+    }
+
+    /**
+     * @return the number of threads or 0 if the value is not a positive number
+     */
+    private static int parseThreads(String value) {
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
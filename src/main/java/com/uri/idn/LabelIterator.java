@@ -0,0 +1,97 @@
+package com.uri.idn;
+
+/**
+ * Iterates over the labels of a domain name without creating substrings. Labels are separated by
+ * one of the full stops recognized by IDNA (see section 3.1 of the RFC 3490): U+002E (full stop),
+ * U+3002 (ideographic full stop), U+FF0E (fullwidth full stop) and U+FF61 (halfwidth ideographic full stop).
+ *
+ * <code>
+ *   LabelIterator labels = new LabelIterator("www.example.com");
+ *   while (labels.next()) {
+ *       int start = labels.start();
+ *       int end   = labels.end();
+ *       // ...
+ *   }
+ * </code>
+ *
+ * Every separator starts a new label, so "a..b" has an empty second label and "a." an empty last label.
+ *
+ */
+public final class LabelIterator {
+    private CharSequence input;
+    private int start;
+    private int end;
+
+    public LabelIterator(CharSequence input) {
+        reset(input);
+    }
+
+    /**
+     * Starts the iteration over the given input again.
+     *
+     * @param input
+     * @return this iterator
+     */
+    public LabelIterator reset(CharSequence input) {
+        this.input = input;
+        this.start = -1;
+        this.end   = -1;
+        return this;
+    }
+
+    /**
+     * Moves to the next label.
+     *
+     * @return false if there are no more labels
+     */
+    public boolean next() {
+        int length = input.length();
+        if (end == length) {
+            return false;
+        }
+        start = end + 1;
+        end   = start;
+        while (end < length && !isDot(input.charAt(end))) {
+            end++;
+        }
+        return true;
+    }
+
+    /**
+     * @return the offset of the first character of the current label
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return the offset after the last character of the current label, the offset of the following separator
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * @return true if the current label is followed by a separator
+     */
+    public boolean hasSeparator() {
+        return end < input.length();
+    }
+
+    /**
+     * @return the current label as string
+     */
+    public String label() {
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * Returns true if the character is one of the label separators U+002E, U+3002, U+FF0E or U+FF61.
+     *
+     * @param c
+     * @return
+     */
+    public static boolean isDot(char c) {
+        return c == '.' || c == '\u3002' || c == '\uFF0E' || c == '\uFF61';
+    }
+}
@@ -1,5 +1,7 @@
 package com.uri.idn;
 
+import java.io.IOException;
+
 /**
  * This class offers encode and decode functions to transform a Unicode string to an ASCII string
  * and vice versa. See appendix C of RFC 3492 (http://www.ietf.org/rfc/rfc3492.txt) for more details
@@ -28,30 +30,73 @@ public class Punycode {
      * @throws PunycodeException 
      */
     public static String encode(String label) throws PunycodeException {
-        // set up input and output variables
-        StringBuffer output = new StringBuffer();
-        CodepointIteratable sequence = new CodepointIteratable(label);
-        
+        StringBuilder output = new StringBuilder(label.length() + 8);
+        encode(label, output);
+        return output.toString();
+    }
+    
+    /**
+     * Applies the Punycode encode algorithm on a given Unicode string and appends the ASCII string to the output.
+     * 
+     * @param label
+     * @param output
+     * @throws PunycodeException if the label can not be encoded, the output is left unchanged
+     */
+    public static void encode(CharSequence label, StringBuilder output) throws PunycodeException {
+        int[] codepoints = new int[label.length()];
+        int count = toCodepoints(label, 0, label.length(), codepoints);
+        encode(codepoints, count, output);
+    }
+    
+    /**
+     * Applies the Punycode encode algorithm on the given code points and appends the ASCII string to the
+     * output. Callers converting many labels can decode each label into the same array with
+     * {@link #toCodepoints(CharSequence, int, int, int[])}, the encoding itself does not allocate.
+     * 
+     * @param codepoints
+     * @param count the number of code points to encode
+     * @param output
+     * @throws PunycodeException if the label can not be encoded, the output is left unchanged
+     */
+    public static void encode(int[] codepoints, int count, StringBuilder output) throws PunycodeException {
+        int start = output.length();
+        try {
+            encode(codepoints, count, output, start);
+        } catch (PunycodeException e) {
+            output.setLength(start);
+            throw e;
+        }
+    }
+    
+    private static void encode(int[] codepoints, int count, StringBuilder output, int start) throws PunycodeException {
         // initialize states
         int n = INITIAL_N;
         int delta = 0;
         int bias = INITIAL_BIAS;
         
         // handle basic code points, they all appear upfront
-        encode_basic_chars(label, output);
+        for (int j = 0; j < count; j++) {
+            if (isBasic(codepoints[j])) {
+                if (ACE_MAX_LENGTH - (output.length() - start) < 2) {
+                    throw new PunycodeException("Output would exceed the provided space!");
+                }
+                output.append((char)codepoints[j]);
+            }
+        }
         // b is the number if handled basic code points
-        int b = output.length();
+        int b = output.length() - start;
         if (b > 0) {
-            output.appendCodePoint(DELIMITER);
+            output.append((char)DELIMITER);
         }
         // h is the number of handled code points
         int h = b;
         
         // main encoding loop for all non-ASCII characters
-        while (h < label.length()) {
+        while (h < count) {
             // all non-basic code points have been handled already, find the next larger one
             int m = MAXINT;
-            for (int codepoint : sequence) {
+            for (int j = 0; j < count; j++) {
+                int codepoint = codepoints[j];
                 if (codepoint >= n && codepoint < m) {
                     m = codepoint;
                 }
@@ -64,7 +109,8 @@ public class Punycode {
             delta += (m - n) * (h + 1);
             n = m;
             
-            for (int codepoint : sequence) {
+            for (int j = 0; j < count; j++) {
+                int codepoint = codepoints[j];
                 if (codepoint < n) {
                     delta ++;
                     if (delta == 0) {
@@ -81,7 +127,7 @@ public class Punycode {
                         q = (q - t) / (BASE - t);
                     }
                     
-                    output.appendCodePoint(encode_digit(q));
+                    output.append((char)encode_digit(q));
                     bias = adapt(delta, h + 1, h == b);
                     delta = 0;
                     h++;
@@ -90,11 +136,34 @@ public class Punycode {
             delta++;
             n++;
         }
-        
-        String result = output.toString();
-        check_for_nonbasic_chars(result);
-        
-        return result;
+    }
+    
+    /**
+     * Decodes the given range into code points.
+     * 
+     * @param input
+     * @param start
+     * @param end
+     * @param codepoints receives the code points, at least end - start long
+     * @return the number of code points
+     */
+    public static int toCodepoints(CharSequence input, int start, int end, int[] codepoints) {
+        return toCodepoints(new CodepointCursor(input, start, end), codepoints);
+    }
+    
+    /**
+     * Reads the remaining code points of the cursor.
+     * 
+     * @param cursor
+     * @param codepoints receives the code points, at least as long as the remaining range of the cursor
+     * @return the number of code points
+     */
+    public static int toCodepoints(CodepointCursor cursor, int[] codepoints) {
+        int count = 0;
+        while (cursor.hasNext()) {
+            codepoints[count++] = cursor.nextInt();
+        }
+        return count;
     }
     
     /**
@@ -105,45 +174,110 @@ public class Punycode {
      * @throws PunycodeException
      */
     public static String decode(String input) throws PunycodeException {
-        StringBuffer output = new StringBuffer();
-        
+        StringBuilder output = new StringBuilder(input.length());
+        decode(input, 0, input.length(), output);
+        return output.toString();
+    }
+    
+    /**
+     * Applies the Punycode decode algorithm on the given range and appends the Unicode string to the output.
+     * 
+     * @param input
+     * @param start
+     * @param end
+     * @param output
+     * @throws PunycodeException if the range can not be decoded, the output is left unchanged
+     */
+    public static void decode(CharSequence input, int start, int end, StringBuilder output) throws PunycodeException {
+        int[] codepoints = new int[end - start];
+        int count = decode(input, start, end, codepoints);
+        for (int j = 0; j < count; j++) {
+            output.appendCodePoint(codepoints[j]);
+        }
+    }
+    
+    /**
+     * Applies the Punycode decode algorithm on the given range and appends the Unicode string to the output.
+     * 
+     * @param input
+     * @param start
+     * @param end
+     * @param output
+     * @throws PunycodeException if the range can not be decoded, nothing is appended in this case
+     * @throws IOException if the output fails
+     */
+    public static void decode(CharSequence input, int start, int end, Appendable output) throws PunycodeException, IOException {
+        int[] codepoints = new int[end - start];
+        int count = decode(input, start, end, codepoints);
+        for (int j = 0; j < count; j++) {
+            int codepoint = codepoints[j];
+            if (Character.isSupplementaryCodePoint(codepoint)) {
+                codepoint -= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                output.append((char)(Character.MIN_HIGH_SURROGATE + (codepoint >>> 10)));
+                output.append((char)(Character.MIN_LOW_SURROGATE + (codepoint & 0x3FF)));
+            } else {
+                output.append((char)codepoint);
+            }
+        }
+    }
+    
+    /**
+     * Applies the Punycode decode algorithm on the given range and stores the decoded code points. The
+     * code points are inserted into the array as they are decoded, the output is limited to
+     * ACE_MAX_LENGTH code points so an insert moves at most that many elements.
+     * 
+     * @param input
+     * @param start
+     * @param end
+     * @param codepoints receives the code points, at least end - start long
+     * @return the number of code points
+     * @throws PunycodeException
+     */
+    public static int decode(CharSequence input, int start, int end, int[] codepoints) throws PunycodeException {
         int n = INITIAL_N;
         int i = 0;
         int bias = INITIAL_BIAS;
+        int out = 0;
         
         // handle the basic code points at the start of the label
         // let b the number of input code points before the last delimiter or 0 if there is none
         // then copy the first b code pints to the output
-        if (ACE_MAX_LENGTH * 2 < input.length()) {
+        if (ACE_MAX_LENGTH * 2 < end - start) {
             throw new PunycodeException("Output would exceed space");
         }
         
         // b marks the delimiter character position
-        int b = Math.max(0, input.lastIndexOf(DELIMITER));
+        int b = 0;
+        for (int j = end - 1; j >= start; j--) {
+            if (input.charAt(j) == DELIMITER) {
+                b = j - start;
+                break;
+            }
+        }
         if (b > ACE_MAX_LENGTH) {
             throw new PunycodeException("Output would exceed space");
         }
         
         // copy the basic code points until delimiter character
         for (int j = 0; j < b; j++) {
-            char c = input.charAt(j);
+            char c = input.charAt(start + j);
             if (!isBasic(c)) {
                 throw new PunycodeException("Invalid input character");
             }
-            output.append(c);
+            codepoints[out++] = c;
         }
         
         // Main decoding loop: Start just after the last delimiter if any basic code points were copied.
         // or if not start at the beginning otherwise
-        int index = (b > 0) ? b + 1 : 0;
-        while (index < input.length()){
+        int index = (b > 0) ? start + b + 1 : start;
+        while (index < end){
             // Decode a generalize variable-length integer into delta, which gets added to i.
             // the overflow checking is easier if we increase i as we go, then subtract off its
             // startig value at the end to obtain delta
             int w = 1;
             int oldi = i;
             for (int k = BASE; ; k += BASE) {
-                if (index >= input.length()) {
+                if (index >= end) {
                     throw new PunycodeException("Input is invalid!");
                 }
                 int codepoint = input.charAt(index++);
@@ -162,7 +296,6 @@ public class Punycode {
                 w *= (BASE - t);
             }
             
-            int out = output.length();
             bias = adapt(i - oldi, out + 1, oldi == 0);
             
             // 'i' was supposed to wrap from output.length + 1 to 0,
@@ -176,33 +309,17 @@ public class Punycode {
             if (out >= ACE_MAX_LENGTH) {
                 throw new PunycodeException("Output would exceed space");
             }
+            if (n > Character.MAX_CODE_POINT) {
+                throw new PunycodeException("Invalid code point");
+            }
             
-            output.insert(i, (char)n);
+            System.arraycopy(codepoints, i, codepoints, i + 1, out - i);
+            codepoints[i] = n;
+            out++;
             i++;
         }
         
-        return output.toString();
-    }
-    
-    private static void check_for_nonbasic_chars(String label) throws PunycodeException {
-        CodepointIteratable sequence = new CodepointIteratable(label);
-        for (int codepoint : sequence) {
-            if (!(codepoint >= 0 && codepoint <= 0x7F)) {
-                throw new PunycodeException("Invalid output char");
-            }
-        }
-    }
-    
-    private static void encode_basic_chars(String label, StringBuffer output) throws PunycodeException {
-        CodepointIteratable sequence = new CodepointIteratable(label);
-        for (int codepoint : sequence) {
-            if (isBasic(codepoint)) {
-                if (ACE_MAX_LENGTH - output.length() < 2) {
-                    throw new PunycodeException("Output would exceed the provided space!");
-                }
-                output.appendCodePoint(codepoint);
-            }
-        }
+        return out;
     }
     
     private static boolean isBasic(int codepoint) {
@@ -221,9 +338,10 @@ public class Punycode {
      * @return
      */
     private static int decode_digit(int codepoint) {
-        if (codepoint - 48 < 10) return codepoint - 22;
-        if (codepoint - 65 < 26) return codepoint - 65;
-        if (codepoint - 97 < 26) return codepoint - 97;
+        // unsigned comparisons as in the sample implementation of the RFC, other characters are no digits
+        if (codepoint - 48 >= 0 && codepoint - 48 < 10) return codepoint - 22;
+        if (codepoint - 65 >= 0 && codepoint - 65 < 26) return codepoint - 65;
+        if (codepoint - 97 >= 0 && codepoint - 97 < 26) return codepoint - 97;
         return BASE;
     }
     
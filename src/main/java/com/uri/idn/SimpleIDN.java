@@ -1,68 +1,87 @@
 package com.uri.idn;
 
 import java.net.IDN;
-import java.util.Vector;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
-import com.uri.URIUtils;
+import com.uri.HostCache;
 
 public class SimpleIDN {
     
     public static final String ACE_PREFIX = "xn--";
     
-    private static final String UTF8_REGEX =
-            "\\A(?:" +
-            "[\\x09\\x0A\\x0D\\x20-\\x7E]]" +            // ASCII characters
-            "|[\\xC2-\\xDF][\\x80-\\xBF]" +              // non-overlong 2-byte
-            "|\\xE0[\\xA0-\\xBF][\\x80-\\xBF]" +         // excluding overlongs
-            "|[\\xE1-\\xEC\\xEE\\xEF][\\x80-\\xBF]{2}" + // straight 3-byte
-            "|\\xED[\\x80-\\x9F][\\x80-\\xBF]" +         // excluding surrogates
-            "|\\xF0[\\x90-\\xBF][\\x80-\\xBF]{2}" +      // planes 1-3
-            "|[\\xF1-\\xF3][\\x80-\\xBF]{3}" +           // planes 4-5
-            "|\\xF4[\\x80-\\x8F][\\x80-\\xBF]{2}" +      // plane 16
-            ")*\\Z/mnx";
-    
-    private static final String UTF8_REGEX_MULTIBYTE =
-            "\\A(?:" +
-            "[\\xC2-\\xDF][\\x80-\\xBF]" +               // non-overlong 2-byte
-            "|\\xE0[\\xA0-\\xBF][\\x80-\\xBF]" +         // excluding overlongs
-            "|[\\xE1-\\xEC\\xEE\\xEF][\\x80-\\xBF]{2}" + // straight 3-byte
-            "|\\xED[\\x80-\\x9F][\\x80-\\xBF]" +         // excluding surrogates
-            "|\\xF0[\\x90-\\xBF][\\x80-\\xBF]{2}" +      // planes 1-3
-            "|[\\xF1-\\xF3][\\x80-\\xBF]{3}" +           // planes 4-5
-            "|\\xF4[\\x80-\\x8F][\\x80-\\xBF]{2}" +      // plane 16
-            ")\\Z/mnx";
-    
-    // reg ex used to find all dot characters
-    private static final String DOTS_REGEX = "(?:[\\x2E]|[\\x3002]|[\\xFF0E]|[\\xFF61])";
-    
-    private static final Pattern UTF8_PATTERN       = Pattern.compile(UTF8_REGEX);
-    private static final Pattern UTF8_MULTI_PATTERN = Pattern.compile(UTF8_REGEX_MULTIBYTE);
+    // labels converted by IDN.toASCII
+    private static volatile HostCache cache = new HostCache(10000, HostCache.Eviction.LRU);
     
     /**
      * A basic implementation of the toASCII function as described in section 4.1 of the RFC 3490
      * (see http://www.ietf.org/rfc/rfc3490.txt for more details)
      * 
-     * The implementation currently uses the IDN class of Java SE
+     * The implementation currently uses the IDN class of Java SE, only labels with non ASCII characters
+     * are converted. If one of them is rejected by java.net.IDN the input is returned unchanged, like
+     * {@link #toUnicode(String)} does.
      * 
      * @param label
      * @return
      */
     public static String toASCII(final String label) {
-        if (isUTF8Label(label)) {
-            String[] parts = splitParts(downcase(label));
-            Vector<String> result = new Vector<String>();
-            for (String part : parts) {
-                if (isUTF8Label(part)) {
-                    result.add(IDN.toASCII(part));
+        if (isASCII(label)) {
+            // nothing to convert, the input is returned as it is
+            return label;
+        }
+        try {
+            String input = downcase(label);
+            StringBuilder result = new StringBuilder(input.length());
+            LabelIterator labels = new LabelIterator(input);
+            int separators = -1;
+            while (labels.next()) {
+                int start = labels.start();
+                int end   = labels.end();
+                separators++;
+                if (start == end) {
+                    // empty labels are only kept if a non empty label follows
+                    continue;
+                }
+                appendSeparators(result, separators);
+                separators = 0;
+                if (!isASCII(input, start, end)) {
+                    result.append(toASCIILabel(labels.label()));
                 } else {
-                    result.add(part);
+                    result.append(input, start, end);
                 }
             }
-            return URIUtils.join(result, ".");
+            return result.toString();
+        } catch (IllegalArgumentException e) {
+            return label;
+        }
+    }
+    
+    /**
+     * @return the cache of converted labels or null if labels are not cached
+     */
+    public static HostCache cache() {
+        return cache;
+    }
+    
+    /**
+     * Replaces the cache that keeps the converted form of labels.
+     * 
+     * @param labelCache the new cache or null to convert every label again
+     */
+    public static void cache(HostCache labelCache) {
+        cache = labelCache;
+    }
+    
+    private static String toASCIILabel(String label) {
+        HostCache labelCache = cache;
+        String ascii = (labelCache != null) ? labelCache.get(label) : null;
+        if (ascii == null) {
+            ascii = IDN.toASCII(label);
+            if (labelCache != null) {
+                labelCache.put(label, ascii);
+            }
         }
-        return label;
+        return ascii;
     }
     
     /**
@@ -76,35 +95,79 @@ public class SimpleIDN {
      */
     public static String toUnicode(final String label) {
         try {
-            String[] parts = splitParts(label);
-            Vector<String> result = new Vector<String>();
-            for (String part : parts) {
-                if (part.startsWith(ACE_PREFIX)) {
-                    result.add(IDN.toUnicode(part));
+            StringBuilder result = new StringBuilder(label.length());
+            LabelIterator labels = new LabelIterator(label);
+            int separators = -1;
+            while (labels.next()) {
+                int start = labels.start();
+                int end   = labels.end();
+                separators++;
+                if (start == end) {
+                    continue;
+                }
+                appendSeparators(result, separators);
+                separators = 0;
+                if (label.startsWith(ACE_PREFIX, start)) {
+                    result.append(IDN.toUnicode(labels.label()));
                 } else {
-                    result.add(part);
+                    result.append(label, start, end);
                 }
             }
-            return URIUtils.join(result, ".");
+            return result.toString();
         } catch (Exception e) {
             return label;
         }
     }
     
+    /**
+     * Splits the input into its labels, see {@link LabelIterator} for the recognized separators.
+     * Empty labels at the end are dropped like String.split does.
+     * 
+     * @param input
+     * @return
+     */
     public static String[] splitParts(String input) {
-        return input.split(DOTS_REGEX);
+        List<String> parts = new ArrayList<String>();
+        LabelIterator labels = new LabelIterator(input);
+        int kept = 0;
+        while (labels.next()) {
+            parts.add(labels.label());
+            if (labels.start() < labels.end()) {
+                kept = parts.size();
+            }
+        }
+        if (kept == 0 && input.length() == 0) {
+            kept = 1;
+        }
+        return parts.subList(0, kept).toArray(new String[kept]);
     }
     
     /**
-     * Checks if the given input label is an UTF-8 string.
+     * Writes the given number of separators, which stand for the labels between two non empty labels.
+     */
+    private static void appendSeparators(StringBuilder result, int separators) {
+        for (int i = 0; i < separators; i++) {
+            result.append('.');
+        }
+    }
+    
+    /**
+     * Checks if the given input only consists of ASCII characters.
      * 
-     * @param label
+     * @param input
      * @return
      */
-    private static boolean isUTF8Label(String label) {
-        Matcher utf8Matcher = UTF8_PATTERN.matcher(label);
-        Matcher utf8MultiMatcher = UTF8_MULTI_PATTERN.matcher(label);
-        return (utf8Matcher.find() && utf8MultiMatcher.find());
+    private static boolean isASCII(String input) {
+        return isASCII(input, 0, input.length());
+    }
+    
+    private static boolean isASCII(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
     }
     
     private static String downcase(String input) {
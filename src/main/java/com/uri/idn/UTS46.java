@@ -0,0 +1,391 @@
+package com.uri.idn;
+
+import java.text.Normalizer;
+
+/**
+ * Converts host names with the processing of Unicode Technical Standard #46 (see
+ * http://www.unicode.org/reports/tr46/ for more details) instead of the IDNA2003 rules of java.net.IDN.
+ * Code points are mapped with the {@link IdnaMappingTable} of the standard, labels are encoded and decoded
+ * with {@link Punycode}.
+ *
+ * The conversion uses nontransitional processing with the options of the WHATWG URL standard: CheckBidi
+ * and CheckJoiners are applied, but neither hyphens nor the STD3 ASCII rules nor the DNS length are
+ * checked, e.g. "fa&szlig;.de" is converted to "xn--fa-hia.de" and not to "fass.de" as by java.net.IDN.
+ *
+ * The mapping table follows Unicode 15.0.0, but the NFC normalization and the bidi classes of CheckBidi
+ * come from java.text.Normalizer and java.lang.Character of the running Java version, which implements
+ * an older Unicode version (6.0 on Java 7, 6.2 on Java 8). Characters added to Unicode after that version
+ * are mapped by the table but are not composed, and a label of a right to left host that contains one of
+ * them is rejected because its bidi class is unknown.
+ *
+ * {@link com.uri.URI} does not use this class, it still converts hosts with java.net.IDN.
+ *
+ * <code>
+ *   StringBuilder output = new StringBuilder();
+ *   UTS46.toASCII("B&uuml;cher.de", output); // xn--bcher-kva.de
+ * </code>
+ *
+ */
+public final class UTS46 {
+    private static final char ZWNJ = '\u200C';
+    private static final char ZWJ  = '\u200D';
+
+    private UTS46() {
+    }
+
+    /**
+     * Applies the toASCII function of section 4.2 of UTS #46 on the given host.
+     *
+     * @param host
+     * @return the host with all non ASCII labels converted to Punycode
+     * @throws IllegalArgumentException if the host is not valid, like java.net.IDN does
+     */
+    public static String toASCII(CharSequence host) {
+        StringBuilder output = new StringBuilder(host.length() + 16);
+        toASCII(host, output);
+        return output.toString();
+    }
+
+    /**
+     * Applies the toASCII function of section 4.2 of UTS #46 and appends the result to the given
+     * output. Hosts which only consist of lower case ASCII characters are copied without creating any
+     * intermediate string. Nothing is appended if the host is not valid.
+     *
+     * @param host
+     * @param output
+     * @throws IllegalArgumentException if the host is not valid
+     */
+    public static void toASCII(CharSequence host, StringBuilder output) {
+        CharSequence mapped = map(host);
+        int length = output.length();
+        boolean rightToLeft = false;
+        try {
+            LabelIterator labels = new LabelIterator(mapped);
+            while (labels.next()) {
+                int start = labels.start();
+                int end   = labels.end();
+                if (isASCII(mapped, start, end)) {
+                    if (isACELabel(mapped, start, end)) {
+                        rightToLeft |= isRightToLeft(decodeLabel(mapped, start, end));
+                    }
+                    output.append(mapped, start, end);
+                } else {
+                    String label = mapped.subSequence(start, end).toString();
+                    checkLabel(label);
+                    rightToLeft |= isRightToLeft(label);
+                    output.append(SimpleIDN.ACE_PREFIX);
+                    try {
+                        Punycode.encode(label, output);
+                    } catch (PunycodeException e) {
+                        throw new IllegalArgumentException(e.getMessage(), e);
+                    }
+                }
+                if (labels.hasSeparator()) {
+                    output.append('.');
+                }
+            }
+            if (rightToLeft) {
+                checkBidi(mapped);
+            }
+        } catch (IllegalArgumentException e) {
+            output.setLength(length);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the toUnicode function of section 4.3 of UTS #46 on the given host.
+     *
+     * @param host
+     * @return the host with all Punycode labels decoded
+     * @throws IllegalArgumentException if the host is not valid
+     */
+    public static String toUnicode(CharSequence host) {
+        StringBuilder output = new StringBuilder(host.length());
+        toUnicode(host, output);
+        return output.toString();
+    }
+
+    /**
+     * Applies the toUnicode function of section 4.3 of UTS #46 and appends the result to the given output.
+     * Nothing is appended if the host is not valid.
+     *
+     * @param host
+     * @param output
+     * @throws IllegalArgumentException if the host is not valid
+     */
+    public static void toUnicode(CharSequence host, StringBuilder output) {
+        CharSequence mapped = map(host);
+        int length = output.length();
+        boolean rightToLeft = false;
+        try {
+            LabelIterator labels = new LabelIterator(mapped);
+            while (labels.next()) {
+                int start = labels.start();
+                int end   = labels.end();
+                if (isACELabel(mapped, start, end)) {
+                    String label = decodeLabel(mapped, start, end);
+                    rightToLeft |= isRightToLeft(label);
+                    output.append(label);
+                } else {
+                    if (!isASCII(mapped, start, end)) {
+                        String label = mapped.subSequence(start, end).toString();
+                        checkLabel(label);
+                        rightToLeft |= isRightToLeft(label);
+                    }
+                    output.append(mapped, start, end);
+                }
+                if (labels.hasSeparator()) {
+                    output.append('.');
+                }
+            }
+            if (rightToLeft) {
+                checkBidi(mapped);
+            }
+        } catch (IllegalArgumentException e) {
+            output.setLength(length);
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the host as described in section 4.1 of UTS #46 and normalizes it to NFC.
+     *
+     * @param host
+     * @return the host itself if nothing has to be mapped
+     * @throws IllegalArgumentException if the host contains a disallowed code point
+     */
+    static CharSequence map(CharSequence host) {
+        int length = host.length();
+        if (isASCII(host, 0, length)) {
+            return lowerCase(host);
+        }
+        StringBuilder mapped = new StringBuilder(length);
+        CodepointCursor cursor = new CodepointCursor(host);
+        while (cursor.hasNext()) {
+            int codepoint = cursor.nextInt();
+            if (codepoint >= 'A' && codepoint <= 'Z') {
+                mapped.append((char)(codepoint + 32));
+            } else if (codepoint < 0x80) {
+                mapped.append((char)codepoint);
+            } else if (IdnaMappingTable.map(codepoint, mapped) == IdnaMappingTable.DISALLOWED) {
+                throw new IllegalArgumentException("Disallowed code point U+" + Integer.toHexString(codepoint).toUpperCase());
+            }
+        }
+        return Normalizer.normalize(mapped, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Decodes a label starting with the ACE prefix and checks that it is a valid Unicode label.
+     */
+    private static String decodeLabel(CharSequence mapped, int start, int end) {
+        String label;
+        try {
+            StringBuilder decoded = new StringBuilder(end - start);
+            Punycode.decode(mapped, start + SimpleIDN.ACE_PREFIX.length(), end, decoded);
+            label = decoded.toString();
+        } catch (PunycodeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        if (isASCII(label, 0, label.length())) {
+            throw new IllegalArgumentException("Punycode label without non ASCII characters: " + mapped.subSequence(start, end));
+        }
+        // a valid label only consists of valid code points and is not changed by the normalization
+        CodepointCursor cursor = new CodepointCursor(label);
+        while (cursor.hasNext()) {
+            if (IdnaMappingTable.status(cursor.nextInt()) != IdnaMappingTable.VALID) {
+                throw new IllegalArgumentException("Punycode label is not in its mapped form: " + mapped.subSequence(start, end));
+            }
+        }
+        if (!Normalizer.isNormalized(label, Normalizer.Form.NFC)) {
+            throw new IllegalArgumentException("Punycode label is not in NFC: " + mapped.subSequence(start, end));
+        }
+        checkLabel(label);
+        return label;
+    }
+
+    /**
+     * Checks the validity criteria of section 4.1 of UTS #46 which are not covered by the mapping,
+     * including the CheckJoiners rules of appendix A of the RFC 5892.
+     */
+    private static void checkLabel(String label) {
+        if (label.indexOf('.') != -1) {
+            throw new IllegalArgumentException("Label contains a full stop: " + label);
+        }
+        if (label.length() > 0 && isMark(label.codePointAt(0))) {
+            throw new IllegalArgumentException("Label starts with a combining mark: " + label);
+        }
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if ((c == ZWNJ || c == ZWJ) && !isJoinerAllowed(label, i)) {
+                throw new IllegalArgumentException("Zero width joiner not allowed in context: " + label);
+            }
+        }
+    }
+
+    /**
+     * A zero width joiner must follow a virama, a zero width non-joiner may also stand between a left
+     * joining and a right joining character.
+     */
+    private static boolean isJoinerAllowed(String label, int index) {
+        if (index > 0 && IdnaMappingTable.isVirama(label.codePointBefore(index))) {
+            return true;
+        }
+        if (label.charAt(index) == ZWJ) {
+            return false;
+        }
+        char type = 'T';
+        for (int i = index; i > 0 && type == 'T'; i -= Character.charCount(label.codePointBefore(i))) {
+            type = IdnaMappingTable.joiningType(label.codePointBefore(i));
+        }
+        if (type != 'L' && type != 'D') {
+            return false;
+        }
+        type = 'T';
+        for (int i = index + 1; i < label.length() && type == 'T'; i += Character.charCount(label.codePointAt(i))) {
+            type = IdnaMappingTable.joiningType(label.codePointAt(i));
+        }
+        return type == 'R' || type == 'D';
+    }
+
+    private static boolean isMark(int codepoint) {
+        int type = Character.getType(codepoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+            || type == Character.ENCLOSING_MARK;
+    }
+
+    private static boolean isACELabel(CharSequence input, int start, int end) {
+        if (end - start < SimpleIDN.ACE_PREFIX.length()) {
+            return false;
+        }
+        for (int i = 0; i < SimpleIDN.ACE_PREFIX.length(); i++) {
+            if (input.charAt(start + i) != SimpleIDN.ACE_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isASCII(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the input itself if it does not contain upper case letters
+     */
+    private static CharSequence lowerCase(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        while (i < length && !isUpperCase(input.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return input;
+        }
+        StringBuilder result = new StringBuilder(length);
+        result.append(input, 0, i);
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            result.append(isUpperCase(c) ? (char)(c + 32) : c);
+        }
+        return result;
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * @return true if the label contains a right to left character or an arabic digit
+     */
+    private static boolean isRightToLeft(String label) {
+        CodepointCursor cursor = new CodepointCursor(label);
+        while (cursor.hasNext()) {
+            switch (Character.getDirectionality(cursor.nextInt())) {
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC:
+            case Character.DIRECTIONALITY_ARABIC_NUMBER:
+                return true;
+            default:
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the CheckBidi rules of section 2 of the RFC 5893 on all labels of a host which contains a right
+     * to left label, Punycode labels are checked in their decoded form.
+     */
+    private static void checkBidi(CharSequence mapped) {
+        LabelIterator labels = new LabelIterator(mapped);
+        while (labels.next()) {
+            int start = labels.start();
+            int end   = labels.end();
+            if (start < end) {
+                checkBidiLabel(isACELabel(mapped, start, end) ? decodeLabel(mapped, start, end) : mapped.subSequence(start, end));
+            }
+        }
+    }
+
+    private static void checkBidiLabel(CharSequence label) {
+        byte first = Character.getDirectionality(Character.codePointAt(label, 0));
+        boolean leftToRight = first == Character.DIRECTIONALITY_LEFT_TO_RIGHT;
+        if (!leftToRight && first != Character.DIRECTIONALITY_RIGHT_TO_LEFT
+                && first != Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC) {
+            throw new IllegalArgumentException("Label of a right to left host does not start with a letter: " + label);
+        }
+        boolean european = false;
+        boolean arabic   = false;
+        byte    last     = first;
+        CodepointCursor cursor = new CodepointCursor(label);
+        while (cursor.hasNext()) {
+            byte direction = Character.getDirectionality(cursor.nextInt());
+            switch (direction) {
+            case Character.DIRECTIONALITY_LEFT_TO_RIGHT:
+                if (!leftToRight) {
+                    throw new IllegalArgumentException("Left to right character in a right to left label: " + label);
+                }
+                break;
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC:
+            case Character.DIRECTIONALITY_ARABIC_NUMBER:
+                if (leftToRight) {
+                    throw new IllegalArgumentException("Right to left character in a left to right label: " + label);
+                }
+                arabic |= direction == Character.DIRECTIONALITY_ARABIC_NUMBER;
+                break;
+            case Character.DIRECTIONALITY_EUROPEAN_NUMBER:
+                european = true;
+                break;
+            case Character.DIRECTIONALITY_EUROPEAN_NUMBER_SEPARATOR:
+            case Character.DIRECTIONALITY_COMMON_NUMBER_SEPARATOR:
+            case Character.DIRECTIONALITY_EUROPEAN_NUMBER_TERMINATOR:
+            case Character.DIRECTIONALITY_OTHER_NEUTRALS:
+            case Character.DIRECTIONALITY_BOUNDARY_NEUTRAL:
+            case Character.DIRECTIONALITY_NONSPACING_MARK:
+                break;
+            default:
+                throw new IllegalArgumentException("Character with a disallowed direction in label: " + label);
+            }
+            if (direction != Character.DIRECTIONALITY_NONSPACING_MARK) {
+                last = direction;
+            }
+        }
+        boolean validEnd = last == Character.DIRECTIONALITY_EUROPEAN_NUMBER || (leftToRight
+            ? last == Character.DIRECTIONALITY_LEFT_TO_RIGHT
+            : last == Character.DIRECTIONALITY_RIGHT_TO_LEFT || last == Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC
+                || last == Character.DIRECTIONALITY_ARABIC_NUMBER);
+        if (!validEnd) {
+            throw new IllegalArgumentException("Label of a right to left host ends with a character of the wrong direction: " + label);
+        }
+        if (european && arabic) {
+            throw new IllegalArgumentException("Label contains european and arabic digits: " + label);
+        }
+    }
+}
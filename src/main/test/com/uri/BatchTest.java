@@ -0,0 +1,60 @@
+package com.uri;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldRunEveryIndexOnce() throws Exception {
+        final AtomicIntegerArray counts = new AtomicIntegerArray(10 * Batch.MIN_CHUNK + 7);
+        Batch.run(counts.length(), executor, new Batch.Task() {
+            public void run(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    counts.incrementAndGet(i);
+                }
+            }
+        });
+        for (int i = 0; i < counts.length(); i++) {
+            Assert.assertEquals(1, counts.get(i));
+        }
+    }
+
+    @Test
+    public void shouldRunEmptyRange() throws Exception {
+        final int[] calls = new int[1];
+        Batch.run(0, executor, new Batch.Task() {
+            public void run(int from, int to) {
+                Assert.assertEquals(from, to);
+                calls[0]++;
+            }
+        });
+        Assert.assertEquals(1, calls[0]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowFailureOfChunk() throws Exception {
+        Batch.run(10, executor, new Batch.Task() {
+            public void run(int from, int to) {
+                throw new IllegalStateException("failed");
+            }
+        });
+    }
+}
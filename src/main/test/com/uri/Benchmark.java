@@ -0,0 +1,101 @@
+package com.uri;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * A minimal timing harness for the benchmarks of the test sources, the repository does not depend on JMH.
+ * A benchmark is a class with a main method whose name ends in Benchmark, so the test runs skip it. Each
+ * case runs several rounds, the first ones warm up the JIT and only the best of the others is reported.
+ *
+ * <code>
+ *   Benchmark.run("parse", inputs.length, new Benchmark.Operation() {
+ *       public int run(int i) throws Exception {
+ *           return URI.parse(inputs[i]).hashCode();
+ *       }
+ *   });
+ * </code>
+ *
+ */
+public final class Benchmark {
+    private static final int WARMUP_ROUNDS   = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // getThreadAllocatedBytes of the HotSpot ThreadMXBean or null if the JVM has none
+    private static final Method ALLOCATED_BYTES = allocatedBytesMethod();
+
+    // keeps the JIT from removing the measured work
+    public static volatile int sink;
+
+    /**
+     * One operation of a benchmark case.
+     */
+    public interface Operation {
+        /**
+         * @param i the index of the operation in the round
+         * @return any value derived from the work, it is summed up into {@link Benchmark#sink}
+         */
+        int run(int i) throws Exception;
+    }
+
+    private Benchmark() {
+    }
+
+    /**
+     * Runs the operation the given number of times per round and prints the time and the allocated bytes
+     * per operation of the best round.
+     *
+     * @param name
+     * @param operations the number of operations per round
+     * @param operation
+     * @return the nanoseconds per operation of the best round
+     * @throws Exception when the operation fails
+     */
+    public static double run(String name, int operations, Operation operation) throws Exception {
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        int result = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < operations; i++) {
+                result += operation.run(i);
+            }
+            long time = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS && time < best) {
+                best = time;
+                allocated = allocatedBytes() - bytes;
+            }
+        }
+        sink = result;
+        double nanos = (double)best / operations;
+        System.out.println(String.format("%-48s %10.1f ns/op %10.1f bytes/op", name, nanos,
+                (double)allocated / operations));
+        return nanos;
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far, 0 if the JVM does not report them
+     */
+    public static long allocatedBytes() {
+        if (ALLOCATED_BYTES == null) {
+            return 0;
+        }
+        try {
+            return (Long)ALLOCATED_BYTES.invoke(ManagementFactory.getThreadMXBean(), Thread.currentThread().getId());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static Method allocatedBytesMethod() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try {
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+            return type.isInstance(threads) ? type.getMethod("getThreadAllocatedBytes", long.class) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
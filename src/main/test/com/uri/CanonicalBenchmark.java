@@ -0,0 +1,59 @@
+package com.uri;
+
+import com.uri.idn.SimpleIDN;
+
+/**
+ * Measures the time and the allocated bytes of the normalizers for input which is already canonical and
+ * for input which has to be changed.
+ *
+ * <code>
+ *   java -cp classes:test-classes com.uri.CanonicalBenchmark
+ * </code>
+ *
+ */
+public class CanonicalBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int operations = 200000;
+        normalize("canonical", "q=search&page=2&lang=en", operations);
+        normalize("to encode", "q=search term&page=2&lang=en", operations);
+        normalizeString("canonical", "/path/to/the/resource.html", operations);
+        normalizeString("to decode", "/path/to/the/%72esource.html", operations);
+        removeDotSegments("canonical", "/path/to/the/resource.html", operations);
+        removeDotSegments("with dot segments", "/path/to/./the/../the/resource.html", operations);
+        toASCII("canonical", "www.example.com", operations);
+        toASCII("to convert", "www.b\u00FCcher.de", operations);
+    }
+
+    private static void normalize(String name, final String query, int operations) throws Exception {
+        Benchmark.run("normalize, " + name, operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return URIUtils.normalize(query, URIUtils.QUERY).length();
+            }
+        });
+    }
+
+    private static void normalizeString(String name, final String path, int operations) throws Exception {
+        Benchmark.run("normalizeString, " + name, operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return URIUtils.normalizeString(path, false).length();
+            }
+        });
+    }
+
+    private static void removeDotSegments(String name, final String path, int operations) throws Exception {
+        Benchmark.run("removeDotSegments, " + name, operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return URIUtils.removeDotSegments(path).length();
+            }
+        });
+    }
+
+    private static void toASCII(String name, final String host, int operations) throws Exception {
+        Benchmark.run("SimpleIDN.toASCII, " + name, operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return SimpleIDN.toASCII(host).length();
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.uri;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compares the delimiter scans of {@link Delimiters} with a plain loop which looks every char or byte up
+ * in the delimiters, and the SWAR scan of a ByteBuffer with a byte by byte comparison, on a URL with a long
+ * query.
+ *
+ * <code>
+ *   java -cp classes:test-classes com.uri.DelimitersBenchmark
+ * </code>
+ *
+ */
+public class DelimitersBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        StringBuilder builder = new StringBuilder("http://www.example.com/search/results?");
+        for (int i = 0; builder.length() < 4096; i++) {
+            builder.append("param").append(i).append("=value").append(i).append('&');
+        }
+        final String url = builder.append("last=1#fragment").toString();
+        final int queryStart = url.indexOf('?') + 1;
+        final ByteBuffer buffer = ByteBuffer.wrap(url.getBytes("US-ASCII"));
+        final int operations = 20000;
+
+        System.out.println("URL of " + url.length() + " chars, the query is scanned for the fragment");
+        Benchmark.run("String, lookup loop, \"#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return lookup(url, queryStart, url.length(), "#");
+            }
+        });
+        Benchmark.run("String, Delimiters, \"#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return Delimiters.next(url, queryStart, url.length(), Delimiters.QUERY_END);
+            }
+        });
+        Benchmark.run("String, lookup loop, \"?#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return lookup(url, queryStart, url.length(), "?#");
+            }
+        });
+        Benchmark.run("String, Delimiters, \"?#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return Delimiters.next(url, queryStart, url.length(), Delimiters.PATH_END);
+            }
+        });
+        Benchmark.run("ByteBuffer, lookup loop, \"?#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return lookup(buffer, queryStart, url.length(), "?#");
+            }
+        });
+        Benchmark.run("ByteBuffer, byte compares, \"?#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return compare(buffer, queryStart, url.length(), (byte)'?', (byte)'#');
+            }
+        });
+        Benchmark.run("ByteBuffer, Delimiters SWAR, \"?#\"", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return Delimiters.next(buffer, queryStart, url.length(), Delimiters.PATH_END);
+            }
+        });
+        Benchmark.run("URI.parse(String)", operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return URI.parse(url).port();
+            }
+        });
+        Benchmark.run("URI.parse(ByteBuffer)", operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return URI.parse(buffer.duplicate()).port();
+            }
+        });
+    }
+
+    private static int lookup(CharSequence input, int start, int end, String delimiters) {
+        for (int i = start; i < end; i++) {
+            if (delimiters.indexOf(input.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int compare(ByteBuffer buffer, int start, int end, byte d0, byte d1) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == d0 || b == d1) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int lookup(ByteBuffer buffer, int start, int end, String delimiters) {
+        for (int i = start; i < end; i++) {
+            if (delimiters.indexOf(buffer.get(i)) != -1) {
+                return i;
+            }
+        }
+        return end;
+    }
+}
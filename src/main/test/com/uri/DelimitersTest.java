@@ -0,0 +1,76 @@
+package com.uri;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DelimitersTest {
+
+    private static ByteBuffer bytes(String text, ByteOrder order) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte)text.charAt(i);
+        }
+        return ByteBuffer.wrap(bytes).order(order);
+    }
+
+    @Test
+    public void shouldFindDelimiterAtEveryPosition() {
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            for (int i = 0; i < 20; i++) {
+                StringBuilder text = new StringBuilder("abcdefghijklmnopqrst");
+                text.setCharAt(i, '?');
+                text.append("#");
+                ByteBuffer buffer = bytes(text.toString(), order);
+                Assert.assertEquals(i, Delimiters.next(buffer, 0, buffer.capacity(), Delimiters.PATH_END));
+                Assert.assertEquals(i, Delimiters.next(text, 0, text.length(), Delimiters.PATH_END));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnFirstOfSeveralDelimiters() {
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer buffer = bytes("abc/def?gh#i:jklmnop", order);
+            Assert.assertEquals(3, Delimiters.next(buffer, 0, buffer.capacity(), Delimiters.SCHEME_END));
+            Assert.assertEquals(7, Delimiters.next(buffer, 4, buffer.capacity(), Delimiters.PATH_END));
+            Assert.assertEquals(10, Delimiters.next(buffer, 8, buffer.capacity(), Delimiters.QUERY_END));
+        }
+    }
+
+    @Test
+    public void shouldNotMatchNeighbouringBytes() {
+        // '#' is 0x23, the bytes around it must not be taken for a match
+        ByteBuffer buffer = bytes("\"$\"$\"$\"$\"$\"$\"$\"$#", ByteOrder.BIG_ENDIAN);
+        Assert.assertEquals(16, Delimiters.next(buffer, 0, buffer.capacity(), Delimiters.QUERY_END));
+    }
+
+    @Test
+    public void shouldReturnEndIfNoDelimiterFound() {
+        ByteBuffer buffer = bytes("abcdefghijklmnopq#", ByteOrder.BIG_ENDIAN);
+        Assert.assertEquals(17, Delimiters.next(buffer, 0, 17, Delimiters.QUERY_END));
+        Assert.assertEquals(5, Delimiters.next("abcde#", 0, 5, Delimiters.QUERY_END));
+        Assert.assertEquals(5, Delimiters.next(new StringBuilder("abcde"), 0, 5, Delimiters.PATH_END));
+    }
+
+    @Test
+    public void shouldFindDelimitersOfAnySetSizeInString() {
+        String text = "ab/c:d?e#f";
+        Assert.assertEquals(6, Delimiters.next(text, 0, text.length(), Delimiters.of("#?")));
+        Assert.assertEquals(4, Delimiters.next(text, 0, text.length(), Delimiters.of("#?:")));
+        Assert.assertEquals(2, Delimiters.next(text, 0, text.length(), Delimiters.SCHEME_END));
+        Assert.assertEquals(2, Delimiters.next(text, 0, text.length(), Delimiters.of("f#?:/")));
+        Assert.assertEquals(8, Delimiters.next(text, 7, text.length(), Delimiters.of("f#?:/")));
+        Assert.assertEquals(10, Delimiters.next(text, 0, text.length(), Delimiters.of("")));
+    }
+
+    @Test
+    public void shouldScanAsciiSequenceRelativeToItsStart() {
+        ByteBuffer buffer = bytes("xxxxhttp://host/path?query", ByteOrder.BIG_ENDIAN);
+        AsciiSequence input = new AsciiSequence(buffer, 4, buffer.capacity());
+        Assert.assertEquals(4, Delimiters.next(input, 0, input.length(), Delimiters.SCHEME_END));
+        Assert.assertEquals(16, Delimiters.next(input, 7, input.length(), Delimiters.PATH_END));
+    }
+}
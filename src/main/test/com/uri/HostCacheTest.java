@@ -0,0 +1,81 @@
+package com.uri;
+
+import java.net.URISyntaxException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HostCacheTest {
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedHost() {
+        HostCache cache = new HostCache(2, HostCache.Eviction.LRU, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        URIAssert.equals("A", cache.get("a"));
+        cache.put("c", "C");
+        URIAssert.equals("A", cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        URIAssert.equals("C", cache.get("c"));
+    }
+
+    @Test
+    public void shouldEvictOldestHost() {
+        HostCache cache = new HostCache(2, HostCache.Eviction.FIFO, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        URIAssert.equals("A", cache.get("a"));
+        cache.put("c", "C");
+        Assert.assertNull(cache.get("a"));
+        URIAssert.equals("B", cache.get("b"));
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        HostCache cache = new HostCache(100, HostCache.Eviction.LRU);
+        cache.get("a");
+        cache.put("a", "A");
+        cache.get("a");
+        cache.get("a");
+        Assert.assertEquals(2, cache.hits());
+        Assert.assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void shouldNotExceedCapacity() {
+        HostCache cache = new HostCache(100, HostCache.Eviction.FIFO);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("host" + i, "host" + i);
+        }
+        Assert.assertTrue(cache.size() <= 100);
+        Assert.assertEquals(0, new HostCache(0, HostCache.Eviction.LRU).size());
+    }
+
+    @Test
+    public void shouldNormalizeHostsOfURIsOnce() throws URISyntaxException {
+        HostCache previous = URI.hostCache();
+        HostCache cache = new HostCache(100, HostCache.Eviction.LRU);
+        URI.hostCache(cache);
+        try {
+            URIAssert.equals("www.example.com", URI.parse("http://WWW.Example.com/a").host());
+            URIAssert.equals("www.example.com", URI.parse("http://WWW.Example.com/b").host());
+            URIAssert.equals("www.xn--4ca0b.com", URI.parse("http://www.\u00e4\u00f6.com/").host());
+            Assert.assertEquals(1, cache.hits());
+            Assert.assertEquals(2, cache.misses());
+            Assert.assertEquals(2, cache.size());
+        } finally {
+            URI.hostCache(previous);
+        }
+    }
+
+    @Test
+    public void shouldParseWithoutCache() throws URISyntaxException {
+        HostCache previous = URI.hostCache();
+        URI.hostCache(null);
+        try {
+            URIAssert.equals("www.example.com", URI.parse("http://WWW.Example.com/a").host());
+        } finally {
+            URI.hostCache(previous);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.uri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures how the throughput of {@link URI#parseAll(List, ExecutorService)} and
+ * {@link URI#toASCIIAll(List, ExecutorService)} scales with the number of threads. The thread counts are
+ * the powers of two up to the number of processors, or the given arguments.
+ *
+ * <code>
+ *   java -cp classes:test-classes com.uri.ParallelBenchmark 1 2 4 8
+ * </code>
+ *
+ */
+public class ParallelBenchmark {
+    private static final int BATCH_SIZE = 100000;
+
+    public static void main(String[] args) throws Exception {
+        final List<String> urls = new ArrayList<String>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            urls.add("http://www.Host" + (i % 500) + ".example.com/a/./b/../page" + i + "?q=" + i + "&s=%7e#top");
+        }
+        List<Integer> threadCounts = new ArrayList<Integer>();
+        if (args.length > 0) {
+            for (String arg : args) {
+                threadCounts.add(Integer.valueOf(arg));
+            }
+        } else {
+            for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+                threadCounts.add(threads);
+            }
+        }
+
+        System.out.println(Runtime.getRuntime().availableProcessors() + " processors, " + BATCH_SIZE + " URLs per batch");
+        double parseSingle = 0;
+        double toASCIISingle = 0;
+        for (int threads : threadCounts) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                double parse = Benchmark.run("parseAll, " + threads + " threads", 1, new Benchmark.Operation() {
+                    public int run(int i) throws Exception {
+                        return URI.parseAll(urls, executor).size();
+                    }
+                });
+                double toASCII = Benchmark.run("toASCIIAll, " + threads + " threads", 1, new Benchmark.Operation() {
+                    public int run(int i) throws Exception {
+                        return URI.toASCIIAll(urls, executor).size();
+                    }
+                });
+                if (parseSingle == 0) {
+                    parseSingle   = parse;
+                    toASCIISingle = toASCII;
+                }
+                System.out.println(String.format("  %,.0f URLs/s parsed (%.2fx), %,.0f URLs/s canonicalized (%.2fx)",
+                        BATCH_SIZE * 1e9 / parse, parseSingle / parse, BATCH_SIZE * 1e9 / toASCII, toASCIISingle / toASCII));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
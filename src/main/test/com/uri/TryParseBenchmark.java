@@ -0,0 +1,81 @@
+package com.uri;
+
+import java.net.URISyntaxException;
+
+/**
+ * Compares the failure path of {@link URI#tryParse(CharSequence)} with the exception thrown by
+ * {@link URI#parse(String)}, next to the success path of both.
+ *
+ * <code>
+ *   java -cp classes:test-classes com.uri.TryParseBenchmark
+ * </code>
+ *
+ */
+public class TryParseBenchmark {
+    private static final String[] VALID = {
+        "http://www.example.com/path/to/resource?q=1&page=2#top",
+        "https://user@example.org:8443/a/b/../c?x=%41",
+        "ftp://ftp.example.net/pub/file.txt",
+        "http://192.168.0.1/index.html",
+    };
+
+    private static final String[] INVALID = {
+        "http://www.example.com:99999/path",
+        "http://example.com/pa%zzth",
+        "http://www.foo[bar].com/",
+        "1http://example.com/",
+    };
+
+    public static void main(String[] args) throws Exception {
+        final int operations = 100000;
+        // every tenth input is malformed, like in a crawl frontier
+        final String[] mixed = new String[100];
+        for (int i = 0; i < mixed.length; i++) {
+            mixed[i] = (i % 10 == 9) ? INVALID[i % INVALID.length] : VALID[i % VALID.length];
+        }
+
+        Benchmark.run("parse, valid", operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return parse(VALID[i % VALID.length]);
+            }
+        });
+        Benchmark.run("tryParse, valid", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return tryParse(VALID[i % VALID.length]);
+            }
+        });
+        Benchmark.run("parse, invalid", operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return parse(INVALID[i % INVALID.length]);
+            }
+        });
+        Benchmark.run("tryParse, invalid", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return tryParse(INVALID[i % INVALID.length]);
+            }
+        });
+        Benchmark.run("parse, 10% invalid", operations, new Benchmark.Operation() {
+            public int run(int i) throws Exception {
+                return parse(mixed[i % mixed.length]);
+            }
+        });
+        Benchmark.run("tryParse, 10% invalid", operations, new Benchmark.Operation() {
+            public int run(int i) {
+                return tryParse(mixed[i % mixed.length]);
+            }
+        });
+    }
+
+    private static int parse(String input) {
+        try {
+            return URI.parse(input).port();
+        } catch (URISyntaxException e) {
+            return e.getIndex();
+        }
+    }
+
+    private static int tryParse(String input) {
+        URIParseResult result = URI.tryParse(input);
+        return result.isValid() ? result.uri().port() : result.errorIndex();
+    }
+}
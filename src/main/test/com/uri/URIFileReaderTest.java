@@ -0,0 +1,109 @@
+package com.uri;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class URIFileReaderTest {
+
+    private static File write(String content) throws IOException {
+        File file = File.createTempFile("urls", ".txt");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static List<String> read(URIFileReader reader) throws URISyntaxException, IOException {
+        List<String> lines = new ArrayList<String>();
+        try {
+            while (reader.hasNext()) {
+                URIParseResult result = reader.next();
+                lines.add(result.isValid() ? result.uri().toASCII() : result.error().name());
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+
+    @Test
+    public void shouldParseEveryLine() throws IOException, URISyntaxException {
+        File file = write("http://www.example.com/a\r\n\nHTTP://Example.COM:80/b?q=1\nhttp://www.foo[bar].com\nhttp://www.\u00e4\u00f6.com/c");
+        URIFileReader reader = new URIFileReader(file);
+        List<String> lines = read(reader);
+        Assert.assertEquals(4, lines.size());
+        URIAssert.equals("http://www.example.com/a", lines.get(0));
+        URIAssert.equals("http://example.com/b?q=1", lines.get(1));
+        URIAssert.equals("AUTHORITY", lines.get(2));
+        URIAssert.equals("http://www.xn--4ca0b.com/c", lines.get(3));
+        Assert.assertEquals(1, reader.failures());
+        Assert.assertEquals(5, reader.line());
+    }
+
+    @Test
+    public void shouldReadLinesAcrossWindows() throws IOException, URISyntaxException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("http://host").append(i).append(".com/p\n");
+        }
+        List<String> lines = read(new URIFileReader(write(content.toString()), 32));
+        Assert.assertEquals(100, lines.size());
+        for (int i = 0; i < 100; i++) {
+            URIAssert.equals("http://host" + i + ".com/p", lines.get(i));
+        }
+    }
+
+    @Test
+    public void shouldReportLinesLongerThanWindow() throws IOException, URISyntaxException {
+        File file = write("http://a.com/a\nhttp://www.example.com/a/very/long/path/that/does/not/fit\nhttp://b.com/b\n");
+        URIFileReader reader = new URIFileReader(file, 16);
+        List<String> lines = read(reader);
+        Assert.assertEquals(3, lines.size());
+        URIAssert.equals("http://a.com/a", lines.get(0));
+        URIAssert.equals("TOO_LONG", lines.get(1));
+        URIAssert.equals("http://b.com/b", lines.get(2));
+        Assert.assertEquals(1, reader.failures());
+    }
+
+    @Test
+    public void shouldReportIndexOfLineLongerThanWindow() throws IOException {
+        URIFileReader reader = new URIFileReader(write("http://www.example.com/a/very/long/path\n"), 16);
+        try {
+            URIParseResult result = reader.next();
+            Assert.assertEquals(URIError.TOO_LONG, result.error());
+            Assert.assertEquals(16, result.errorIndex());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void shouldCountCharsInErrorIndexOfNonASCIILine() throws IOException {
+        URIFileReader reader = new URIFileReader(write("http://b.com/%zz\nhttp://b\u00FCcher.com/%zz\n"));
+        try {
+            Assert.assertEquals(13, reader.next().errorIndex());
+            // the umlaut takes two bytes but counts as one char
+            URIParseResult result = reader.next();
+            Assert.assertEquals(URIError.PERCENT_ENCODING, result.error());
+            Assert.assertEquals(18, result.errorIndex());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyFile() throws IOException, URISyntaxException {
+        Assert.assertTrue(read(new URIFileReader(write(""))).isEmpty());
+    }
+}
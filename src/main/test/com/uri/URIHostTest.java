@@ -147,4 +147,52 @@ public class URIHostTest {
         URI uri = new URI().withHost("www.example.com").withHost(null);
         Assert.assertNull(uri.host());
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void shouldRecognizeIPv4Host() throws URISyntaxException {
+        URI uri = URI.parse("http://192.168.0.1:8080/");
+        Assert.assertTrue(uri.isIPv4());
+        Assert.assertFalse(uri.isIPv6());
+        Assert.assertArrayEquals(new byte[] { (byte)192, (byte)168, 0, 1 }, uri.ipBytes());
+        URIAssert.equals("192.168.0.1", uri.ipAddress());
+    }
+    
+    @Test
+    public void shouldNotTakeNamedHostForIPv4() throws URISyntaxException {
+        Assert.assertFalse(URI.parse("http://192.168.0.01/").isIPv4());
+        Assert.assertFalse(URI.parse("http://1.2.3/").isIPv4());
+        Assert.assertFalse(URI.parse("http://www.example.com/").isIPv4());
+        Assert.assertNull(URI.parse("http://www.example.com/").ipBytes());
+    }
+    
+    @Test
+    public void shouldRecognizeIPv6Host() throws URISyntaxException {
+        URI uri = URI.parse("http://[2001:0DB8:0:0:0:0:0:1]/");
+        Assert.assertTrue(uri.isIPv6());
+        URIAssert.equals("[2001:0DB8:0:0:0:0:0:1]", uri.host());
+        URIAssert.equals("2001:db8::1", uri.ipAddress());
+        byte[] bytes = uri.ipBytes();
+        Assert.assertEquals(16, bytes.length);
+        Assert.assertEquals(0x20, bytes[0]);
+        Assert.assertEquals(0x0D, bytes[2]);
+        Assert.assertEquals(1, bytes[15]);
+    }
+    
+    @Test
+    public void shouldWriteIPv6AddressInCanonicalForm() throws URISyntaxException {
+        URIAssert.equals("::1", URI.parse("http://[0:0:0:0:0:0:0:1]/").ipAddress());
+        URIAssert.equals("2001:db8:0:1:1:1:1:1", URI.parse("http://[2001:db8:0:1:1:1:1:1]/").ipAddress());
+        URIAssert.equals("2001:0:0:1::1", URI.parse("http://[2001:0:0:1:0:0:0:1]/").ipAddress());
+        URIAssert.equals("2001:db8::1:0:0:1", URI.parse("http://[2001:db8:0:0:1:0:0:1]/").ipAddress());
+        URIAssert.equals("::ffff:129.144.52.38", URI.parse("http://[0:0:0:0:0:FFFF:129.144.52.38]").ipAddress());
+        URIAssert.equals("::d01:4403", URI.parse("http://[0:0:0:0:0:0:13.1.68.3]/").ipAddress());
+    }
+    
+    @Test
+    public void shouldNotTakeInvalidLiteralForIPv6() throws URISyntaxException {
+        Assert.assertFalse(URI.parse("http://[1:2:3]/").isIPv6());
+        Assert.assertFalse(URI.parse("http://[1::2::3]/").isIPv6());
+        Assert.assertFalse(URI.parse("http://[12345::1]/").isIPv6());
+        Assert.assertFalse(URI.parse("http://[v9.3ffe::1]/").isIPv6());
+    }
+}
@@ -294,6 +294,11 @@ public class URIPathTest {
         URIAssert.equals("path_with_trailing_slash/another_path", uri.join(relativeURI).toASCII());
     }
     
+    @Test
+    public void removeDotSegmentsShouldReturnPathWithoutDotSegmentsUnchanged() {
+        String path = "/a/b.c/d..e/";
+        Assert.assertSame(path, URIUtils.removeDotSegments(path));
+        Assert.assertEquals("/a/c", URIUtils.removeDotSegments("/a/./b/../c"));
+    }
+    
 }
-
-
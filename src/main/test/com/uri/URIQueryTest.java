@@ -139,6 +139,36 @@ public class URIQueryTest {
         URIAssert.equals("http://example.com?foo=temp;page=1", uri.toASCII());
     }
     
+    @Test
+    public void shouldPercentEncodeCharactersNotAllowedInQuery() {
+        URIAssert.equals("a=b%20c%0A/?%", URIUtils.normalize("a=b c\n/?%", URIUtils.QUERY));
+        URIAssert.equals("%E4%8A79%FFFF", URIUtils.normalize("\u00E4\u8A79\uFFFF", URIUtils.QUERY));
+        URIAssert.equals("%3F", URIUtils.getPercentEncodedChar('?', URIUtils.REGNAME));
+        URIAssert.equals("x%2F%E4", URIUtils.normalize("x/\u00E4", "x"));
+    }
+    
+    @Test
+    public void shouldDecodeUnreservedOctetsInOnePass() throws URISyntaxException {
+        URIAssert.equals("abc%2F%3D~%", URIUtils.normalizeString("%41%62C%2f%3d%7E%", false));
+        URIAssert.equals("AbC%2F%3D~%4", URIUtils.normalizeString("%41%62C%2f%3d%7E%4", true));
+        URIAssert.equals("%-1%+F", URIUtils.normalizeString("%-1%+f", false));
+    }
+    
+    @Test(expected = URISyntaxException.class)
+    public void shouldRejectInvalidOctet() throws URISyntaxException {
+        URIUtils.normalizeString("a%4g", false);
+    }
+    
+    @Test
+    public void shouldReturnNormalizedQueryUnchanged() throws URISyntaxException {
+        String query = "a=b&c=%2F%C3%A4";
+        Assert.assertSame(query, URIUtils.normalize(query, URIUtils.QUERY));
+        Assert.assertSame(query, URIUtils.normalizeString(query, true));
+        String lowerCase = "a=b&c=d~e%";
+        Assert.assertSame(lowerCase, URIUtils.normalizeString(lowerCase, false));
+        Assert.assertEquals("a=b&c=%2F%C3%A4", URIUtils.normalizeString("a=b&c=%2f%C3%A4", true));
+    }
+    
     /*
     @Test
     public void shouldNormalizeQuerySeparatorInParam() throws URISyntaxException {
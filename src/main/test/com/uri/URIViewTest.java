@@ -0,0 +1,68 @@
+package com.uri;
+
+import java.net.URISyntaxException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class URIViewTest {
+
+    @Test
+    public void shouldReturnRawComponents() throws URISyntaxException {
+        URIView view = URIView.parse("HTTP://user@www.Example.com:8080/a/../b?page=2#top");
+        URIAssert.equals("HTTP", view.scheme().toString());
+        URIAssert.equals("user@www.Example.com:8080", view.authority().toString());
+        URIAssert.equals("user", view.userinfo().toString());
+        URIAssert.equals("www.Example.com", view.host().toString());
+        Assert.assertEquals(8080, view.port());
+        URIAssert.equals("/a/../b", view.path().toString());
+        URIAssert.equals("page=2", view.query().toString());
+        URIAssert.equals("top", view.fragment().toString());
+    }
+
+    @Test
+    public void shouldReturnNullForMissingComponents() throws URISyntaxException {
+        URIView view = URIView.parse("/path");
+        Assert.assertNull(view.scheme());
+        Assert.assertNull(view.host());
+        Assert.assertNull(view.query());
+        Assert.assertEquals(-1, view.port());
+    }
+
+    @Test
+    public void shouldCompareComponentsWithoutCopying() throws URISyntaxException {
+        URIView view = URIView.parse("https://example.com/");
+        Assert.assertTrue("https".contentEquals(view.scheme()));
+        Assert.assertTrue("example.com".contentEquals(view.host()));
+    }
+
+    @Test
+    public void shouldFindQueryParameters() throws URISyntaxException {
+        URIView view = URIView.parse("http://example.com/?q=test&flag&page=&per=10");
+        URIAssert.equals("test", view.queryParam("q").toString());
+        URIAssert.equals("", view.queryParam("flag").toString());
+        URIAssert.equals("", view.queryParam("page").toString());
+        URIAssert.equals("10", view.queryParam("per").toString());
+        Assert.assertNull(view.queryParam("missing"));
+    }
+
+    @Test
+    public void shouldConvertToNormalizedURI() throws URISyntaxException {
+        URIView view = URIView.parse("HTTP://www.EXAMPLE.com/a/./b/../c");
+        URIAssert.equals("http://www.example.com/a/c", view.toURI().toASCII());
+    }
+
+    @Test(expected=URISyntaxException.class)
+    public void shouldFailToParseInvalidAuthority() throws URISyntaxException {
+        URIView.parse("http://www.foo[bar].com");
+    }
+
+    @Test
+    public void shouldParseViewFromBytes() throws URISyntaxException {
+        byte[] bytes = "http://example.com:81/index.html?id=42".getBytes();
+        URIView view = URIView.parse(bytes, 0, bytes.length);
+        Assert.assertTrue("example.com".contentEquals(view.host()));
+        Assert.assertEquals(81, view.port());
+        URIAssert.equals("42", view.queryParam("id").toString());
+    }
+}
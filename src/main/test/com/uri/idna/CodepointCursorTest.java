@@ -0,0 +1,66 @@
+package com.uri.idna;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.uri.idn.CodepointCursor;
+import com.uri.idn.CodepointIterator;
+
+public class CodepointCursorTest {
+
+    @Test
+    public void shouldReturnSupplementaryCodePoints() {
+        CodepointCursor cursor = new CodepointCursor("a\uD83D\uDE00b");
+        Assert.assertEquals(3, cursor.count());
+        Assert.assertEquals('a', cursor.nextInt());
+        Assert.assertEquals(0x1F600, cursor.nextInt());
+        Assert.assertEquals(3, cursor.index());
+        Assert.assertEquals('b', cursor.nextInt());
+        Assert.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void shouldNotPairSurrogatesAcrossTheRange() {
+        CodepointCursor cursor = new CodepointCursor("a\uD83D\uDE00b", 0, 2);
+        Assert.assertEquals(2, cursor.count());
+        Assert.assertEquals('a', cursor.nextInt());
+        Assert.assertEquals(0xD83D, cursor.nextInt());
+        Assert.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void shouldIterateOverSlice() {
+        CodepointCursor cursor = new CodepointCursor("www.example.com", 4, 11);
+        StringBuilder result = new StringBuilder();
+        while (cursor.hasNext()) {
+            result.appendCodePoint(cursor.nextInt());
+        }
+        Assert.assertEquals("example", result.toString());
+        Assert.assertEquals(7, cursor.count());
+
+        cursor.reset();
+        Assert.assertEquals('e', cursor.nextInt());
+        cursor.reset("abc", 1, 1);
+        Assert.assertFalse(cursor.hasNext());
+        Assert.assertEquals(0, cursor.count());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldFailAtTheEnd() {
+        new CodepointCursor("").nextInt();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectInvalidRange() {
+        new CodepointCursor("abc", 2, 4);
+    }
+
+    @Test
+    public void iteratorShouldCountAllCodePoints() {
+        Assert.assertEquals(3, new CodepointIterator("abc").size());
+        Assert.assertEquals(2, new CodepointIterator("a\uD83D\uDE00").size());
+        Assert.assertEquals(0, new CodepointIterator("").size());
+    }
+}
@@ -0,0 +1,70 @@
+package com.uri.idna;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.uri.idn.HostConverter;
+
+public class HostConverterTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldConvertListToASCII() throws Exception {
+        List<String> hosts = Arrays.asList("B\u00FCcher.de", "example.com", "\u0301a.com");
+        String[] results = HostConverter.convertAll(hosts, HostConverter.Direction.TO_ASCII, executor);
+        Assert.assertArrayEquals(new String[] { "xn--bcher-kva.de", "example.com", null }, results);
+    }
+
+    @Test
+    public void shouldConvertWithTheMappingTable() throws Exception {
+        List<String> hosts = Arrays.asList("\u1E9E.de", "\u13A0.com", "\u05D0\u05D1.com", "\u05D0a.com");
+        String[] results = HostConverter.convertAll(hosts, HostConverter.Direction.TO_ASCII, executor);
+        Assert.assertArrayEquals(new String[] { "ss.de", "xn--58d.com", "xn--4dbc.com", null }, results);
+    }
+
+    @Test
+    public void shouldConvertLargeListInOrder() throws Exception {
+        List<String> hosts = new ArrayList<String>();
+        for (int i = 0; i < 10000; i++) {
+            hosts.add("b\u00FCcher" + i + ".de");
+        }
+        String[] ascii = HostConverter.convertAll(hosts, HostConverter.Direction.TO_ASCII, executor);
+        String[] results = HostConverter.convertAll(Arrays.asList(ascii), HostConverter.Direction.TO_UNICODE, executor);
+        Assert.assertEquals(10000, results.length);
+        for (int i = 0; i < results.length; i++) {
+            Assert.assertTrue(ascii[i].startsWith("xn--"));
+            Assert.assertEquals("b\u00FCcher" + i + ".de", results[i]);
+        }
+    }
+
+    @Test
+    public void shouldConvertLinesAndCountErrors() throws Exception {
+        BufferedReader input = new BufferedReader(new StringReader("xn--bcher-kva.de\nxn--wca.de\n\nexample.com\n"));
+        StringWriter output = new StringWriter();
+        HostConverter.Summary summary = HostConverter.convert(input, output, HostConverter.Direction.TO_UNICODE, executor);
+        Assert.assertEquals(4, summary.hosts());
+        Assert.assertEquals(1, summary.errors());
+        Assert.assertEquals("b\u00FCcher.de\n\n\nexample.com\n", output.toString());
+    }
+}
@@ -3,8 +3,10 @@ package com.uri.idna;
 import java.net.IDN;
 import java.net.URISyntaxException;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import com.uri.HostCache;
 import com.uri.URI;
 import com.uri.URIAssert;
 import com.uri.idn.SimpleIDN;
@@ -21,6 +23,58 @@ public class IDNATest {
         URIAssert.equals("test", SimpleIDN.toASCII("test"));
     }
     
+    @Test
+    public void toASCIIShouldReturnASCIIInputUnchanged() {
+        String input = "http://www.example.com/path?q=1#top";
+        Assert.assertSame(input, SimpleIDN.toASCII(input));
+    }
+    
+    @Test
+    public void toASCIIShouldConvertNonASCIILabels() {
+        URIAssert.equals("www.xn--bcher-kva.de", SimpleIDN.toASCII("www.B\u00FCcher.de"));
+        URIAssert.equals("xn--mllerriis-l8a.xn--bcher-kva.com", SimpleIDN.toASCII("m\u00F8llerriis.b\u00FCcher.com"));
+        URIAssert.equals("xn--bcher2020-q9a.de", SimpleIDN.toASCII("b\u00FCcher2020.de"));
+    }
+
+    @Test
+    public void toASCIIShouldOnlyConvertNonASCIILabelsOfMixedHost() {
+        String host = "shop.b\u00FCcher.example.com";
+        URIAssert.equals("shop.xn--bcher-kva.example.com", SimpleIDN.toASCII(host));
+        URIAssert.equals("xn--mnchen-3ya.example.xn--caf-dma", SimpleIDN.toASCII("m\u00FCnchen.example.caf\u00E9"));
+        String ascii = "shop.buecher.example.com";
+        Assert.assertSame(ascii, SimpleIDN.toASCII(ascii));
+    }
+
+    @Test
+    public void toASCIIShouldReturnInputUnchangedIfLabelIsRejected() {
+        // java.net.IDN rejects labels longer than 63 characters
+        StringBuilder host = new StringBuilder("www.\u00FC");
+        for (int i = 0; i < 70; i++) {
+            host.append('a');
+        }
+        String tooLong = host.append(".de").toString();
+        Assert.assertSame(tooLong, SimpleIDN.toASCII(tooLong));
+        String unassigned = "\u0378.de";
+        Assert.assertSame(unassigned, SimpleIDN.toASCII(unassigned));
+    }
+
+    @Test
+    public void toASCIIShouldCacheConvertedLabels() {
+        HostCache previous = SimpleIDN.cache();
+        HostCache cache = new HostCache(16, HostCache.Eviction.LRU);
+        SimpleIDN.cache(cache);
+        try {
+            URIAssert.equals("www.xn--bcher-kva.de", SimpleIDN.toASCII("www.b\u00FCcher.de"));
+            Assert.assertEquals(1, cache.size());
+            Assert.assertEquals(0, cache.hits());
+            URIAssert.equals("xn--bcher-kva.com", SimpleIDN.toASCII("b\u00FCcher.com"));
+            Assert.assertEquals(1, cache.size());
+            Assert.assertEquals(1, cache.hits());
+        } finally {
+            SimpleIDN.cache(previous);
+        }
+    }
+
     @Test
     public void toUnicodeShouldNotAlterEmptyString() {
         URIAssert.equals("", SimpleIDN.toUnicode(""));
@@ -74,7 +128,7 @@ public class IDNATest {
     public void shouldConvertURIFromASCIIToUnicode() throws URISyntaxException {
         URIAssert.equals("http://www.google.com", SimpleIDN.toUnicode(URI.parse("http://www.google.com").toASCII()));
     }
-/*    
+    
     @Test
     public void shouldConvertToUnicodeURISamples() throws URISyntaxException {
         URIAssert.equals(
@@ -86,7 +140,7 @@ public class IDNATest {
     public void shouldConvertURIWithAsianHostname() throws URISyntaxException {
         URIAssert.equals("www.詹姆斯.com", SimpleIDN.toUnicode(new URI().withHost("www.xn--8ws00zhy3a.com").host()));
     }
-    */
+    
     @Test
     public void shouldParseUnicodeURIAndApplyToASCIITwice() throws URISyntaxException {
         URI uri = URI.parse("http://www.詹姆斯.com");
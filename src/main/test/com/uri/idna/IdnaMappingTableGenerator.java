@@ -0,0 +1,268 @@
+package com.uri.idna;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the rows of com.uri.idn.IdnaMappingTable from the Unicode data files in src/main/data/idna.
+ * Only the bodies of the arrays MAPPING, JOINING and VIRAMA are replaced, the rest of the class is kept.
+ * The table is regenerated from the project directory with
+ *
+ * <code>
+ *   java -cp target/classes:target/test-classes com.uri.idna.IdnaMappingTableGenerator
+ * </code>
+ *
+ * IdnaMappingTableGeneratorTest fails if the committed table differs from the generated one.
+ *
+ */
+public final class IdnaMappingTableGenerator {
+    static final File TABLE  = new File("src/main/java/com/uri/idn/IdnaMappingTable.java");
+    static final File DATA   = new File("src/main/data/idna");
+
+    private static final Charset UTF8       = Charset.forName("UTF-8");
+    private static final int     LINE_WIDTH = 100;
+    private static final String  INDENT     = "        ";
+
+    private IdnaMappingTableGenerator() {
+    }
+
+    /**
+     * @param source the current source of the table
+     * @return the source with all rows generated from the data files
+     * @throws IOException
+     */
+    static String generate(String source) throws IOException {
+        source = replaceRows(source, "MAPPING", mappingRows(new File(DATA, "IdnaMappingTable.txt")));
+        source = replaceRows(source, "JOINING", joiningRows(new File(DATA, "DerivedJoiningType.txt")));
+        return replaceRows(source, "VIRAMA", viramaRows(new File(DATA, "DerivedCombiningClass-9.txt")));
+    }
+
+    static String read(File file) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF8));
+        try {
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+        } finally {
+            reader.close();
+        }
+        return content.toString();
+    }
+
+    /**
+     * Resolves the statuses for nontransitional processing without the STD3 rules and writes a row
+     * for every range, see the documentation of IdnaMappingTable for the format.
+     */
+    private static List<String> mappingRows(File file) throws IOException {
+        List<int[]> ranges = new ArrayList<int[]>();
+        List<String> statuses = new ArrayList<String>();
+        List<int[]> mappings = new ArrayList<int[]>();
+        for (String[] fields : fields(file)) {
+            int[] range = range(fields[0]);
+            String status = fields[1];
+            int[] mapping = (fields.length > 2) ? codepoints(fields[2]) : null;
+            char resolved;
+            if (status.equals("valid") || status.equals("deviation") || status.equals("disallowed_STD3_valid")) {
+                resolved = 'v';
+            } else if (status.equals("mapped") || status.equals("disallowed_STD3_mapped")) {
+                resolved = 'm';
+            } else if (status.equals("ignored")) {
+                resolved = 'i';
+            } else if (status.equals("disallowed")) {
+                resolved = 'x';
+            } else {
+                throw new IOException("Unknown status " + status + " in " + file);
+            }
+            ranges.add(range);
+            statuses.add(String.valueOf(resolved));
+            mappings.add(resolved == 'm' ? mapping : null);
+        }
+
+        // rows of start, status, end (exclusive) and the mapping or the first target of a shifted range
+        List<Object[]> rows = new ArrayList<Object[]>();
+        for (int i = 0; i < ranges.size(); i++) {
+            int start = ranges.get(i)[0];
+            int end   = ranges.get(i)[1] + 1;
+            char status = statuses.get(i).charAt(0);
+            Object[] last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            if (status == 'm') {
+                int[] mapping = mappings.get(i);
+                if (end - start == 1 && mapping.length == 1) {
+                    if (last != null && (Character)last[1] == 'd' && (Integer)last[2] == start
+                            && (Integer)last[3] + start - (Integer)last[0] == mapping[0]) {
+                        last[2] = end;
+                    } else {
+                        rows.add(new Object[] { start, 'd', end, mapping[0] });
+                    }
+                } else {
+                    rows.add(new Object[] { start, 'm', end, mapping });
+                }
+            } else if (last != null && (Character)last[1] == status && (Integer)last[2] == start) {
+                last[2] = end;
+            } else {
+                rows.add(new Object[] { start, status, end, null });
+            }
+        }
+
+        List<String> result = new ArrayList<String>(rows.size());
+        for (Object[] row : rows) {
+            int start = (Integer)row[0];
+            char status = (Character)row[1];
+            StringBuilder text = new StringBuilder(hex(start));
+            if (status == 'd' && (Integer)row[2] - start == 1) {
+                text.append('m').append(hex((Integer)row[3]));
+            } else if (status == 'd') {
+                text.append('d').append(hex((Integer)row[3]));
+            } else if (status == 'm') {
+                text.append('m');
+                int[] mapping = (int[])row[3];
+                for (int i = 0; i < mapping.length; i++) {
+                    text.append(i > 0 ? " " : "").append(hex(mapping[i]));
+                }
+            } else {
+                text.append(status);
+            }
+            result.add(text.toString());
+        }
+        return result;
+    }
+
+    private static List<String> joiningRows(File file) throws IOException {
+        char[] types = new char[Character.MAX_CODE_POINT + 1];
+        java.util.Arrays.fill(types, 'u');
+        for (String[] fields : fields(file)) {
+            int[] range = range(fields[0]);
+            for (int codepoint = range[0]; codepoint <= range[1]; codepoint++) {
+                types[codepoint] = Character.toLowerCase(fields[1].charAt(0));
+            }
+        }
+        List<String> rows = new ArrayList<String>();
+        for (int codepoint = 0; codepoint < types.length; codepoint++) {
+            if (codepoint == 0 || types[codepoint] != types[codepoint - 1]) {
+                rows.add(hex(codepoint) + types[codepoint]);
+            }
+        }
+        return rows;
+    }
+
+    private static List<String> viramaRows(File file) throws IOException {
+        List<int[]> ranges = new ArrayList<int[]>();
+        for (String[] fields : fields(file)) {
+            int[] range = range(fields[0]);
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] + 1 == range[0]) {
+                last[1] = range[1];
+            } else {
+                ranges.add(range);
+            }
+        }
+        List<String> rows = new ArrayList<String>(ranges.size());
+        for (int[] range : ranges) {
+            rows.add(range[0] == range[1] ? hex(range[0]) : hex(range[0]) + "-" + hex(range[1]));
+        }
+        return rows;
+    }
+
+    /**
+     * @return the fields of all data lines without comments, trimmed
+     */
+    private static List<String[]> fields(File file) throws IOException {
+        List<String[]> lines = new ArrayList<String[]>();
+        for (String line : read(file).split("\n")) {
+            int comment = line.indexOf('#');
+            if (comment != -1) {
+                line = line.substring(0, comment);
+            }
+            if (line.trim().length() == 0) {
+                continue;
+            }
+            String[] fields = line.split(";");
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            if (fields.length > 2 && fields[2].length() == 0) {
+                String[] shorter = new String[2];
+                System.arraycopy(fields, 0, shorter, 0, 2);
+                fields = shorter;
+            }
+            lines.add(fields);
+        }
+        return lines;
+    }
+
+    private static int[] range(String field) {
+        int dots = field.indexOf("..");
+        if (dots == -1) {
+            int codepoint = Integer.parseInt(field, 16);
+            return new int[] { codepoint, codepoint };
+        }
+        return new int[] { Integer.parseInt(field.substring(0, dots), 16), Integer.parseInt(field.substring(dots + 2), 16) };
+    }
+
+    private static int[] codepoints(String field) {
+        if (field.length() == 0) {
+            return new int[0];
+        }
+        String[] values = field.split(" +");
+        int[] codepoints = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            codepoints[i] = Integer.parseInt(values[i], 16);
+        }
+        return codepoints;
+    }
+
+    private static String hex(int value) {
+        return Integer.toHexString(value).toUpperCase();
+    }
+
+    /**
+     * Replaces the body of the array with the given name by the rows, several rows share a line.
+     */
+    private static String replaceRows(String source, String name, List<String> rows) throws IOException {
+        String declaration = "private static final String[] " + name + " = {\n";
+        int start = source.indexOf(declaration);
+        if (start == -1) {
+            throw new IOException("No array " + name + " in " + TABLE);
+        }
+        start += declaration.length();
+        int end = source.indexOf("\n    };", start);
+
+        StringBuilder lines = new StringBuilder();
+        StringBuilder line = new StringBuilder();
+        for (String row : rows) {
+            if (line.length() > 0 && line.length() + 1 + row.length() > LINE_WIDTH) {
+                lines.append(lines.length() > 0 ? ",\n" : "").append(INDENT).append('"').append(line).append('"');
+                line.setLength(0);
+            }
+            line.append(line.length() > 0 ? "," : "").append(row);
+        }
+        if (line.length() > 0) {
+            lines.append(lines.length() > 0 ? ",\n" : "").append(INDENT).append('"').append(line).append('"');
+        }
+        return source.substring(0, start) + lines + source.substring(end);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String source = read(TABLE);
+        String generated = generate(source);
+        Writer writer = new OutputStreamWriter(new FileOutputStream(TABLE), UTF8);
+        try {
+            writer.write(generated);
+        } finally {
+            writer.close();
+        }
+        System.out.println(generated.equals(source) ? "IdnaMappingTable is up to date" : "Generated " + TABLE);
+    }
+}
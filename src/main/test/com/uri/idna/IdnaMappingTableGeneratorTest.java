@@ -0,0 +1,16 @@
+package com.uri.idna;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdnaMappingTableGeneratorTest {
+
+    @Test
+    public void tableShouldMatchTheUnicodeDataFiles() throws IOException {
+        String source = IdnaMappingTableGenerator.read(IdnaMappingTableGenerator.TABLE);
+        Assert.assertTrue("IdnaMappingTable is out of date, run IdnaMappingTableGenerator",
+            source.equals(IdnaMappingTableGenerator.generate(source)));
+    }
+}
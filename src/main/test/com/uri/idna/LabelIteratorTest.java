@@ -0,0 +1,62 @@
+package com.uri.idna;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.uri.idn.LabelIterator;
+import com.uri.idn.SimpleIDN;
+
+public class LabelIteratorTest {
+
+    @Test
+    public void shouldIterateOverLabelOffsets() {
+        LabelIterator labels = new LabelIterator("www.example.com");
+        Assert.assertTrue(labels.next());
+        Assert.assertEquals(0, labels.start());
+        Assert.assertEquals(3, labels.end());
+        Assert.assertTrue(labels.hasSeparator());
+        Assert.assertTrue(labels.next());
+        Assert.assertEquals("example", labels.label());
+        Assert.assertTrue(labels.next());
+        Assert.assertEquals(12, labels.start());
+        Assert.assertEquals(15, labels.end());
+        Assert.assertFalse(labels.hasSeparator());
+        Assert.assertFalse(labels.next());
+    }
+
+    @Test
+    public void shouldSplitAtAllFullStops() {
+        LabelIterator labels = new LabelIterator("a.b\u3002c\uFF0Ed\uFF61e");
+        StringBuilder result = new StringBuilder();
+        while (labels.next()) {
+            result.append(labels.label());
+        }
+        Assert.assertEquals("abcde", result.toString());
+        Assert.assertFalse(LabelIterator.isDot('0'));
+        Assert.assertFalse(LabelIterator.isDot('E'));
+    }
+
+    @Test
+    public void shouldReturnEmptyLabels() {
+        LabelIterator labels = new LabelIterator("");
+        Assert.assertTrue(labels.next());
+        Assert.assertEquals("", labels.label());
+        Assert.assertFalse(labels.next());
+
+        labels.reset(".a..");
+        String[] expected = { "", "a", "", "" };
+        for (String label : expected) {
+            Assert.assertTrue(labels.next());
+            Assert.assertEquals(label, labels.label());
+        }
+        Assert.assertFalse(labels.next());
+    }
+
+    @Test
+    public void splitPartsShouldDropTrailingEmptyLabels() {
+        Assert.assertArrayEquals(new String[] { "" }, SimpleIDN.splitParts(""));
+        Assert.assertArrayEquals(new String[] { "", "a", "", "b" }, SimpleIDN.splitParts(".a..b.."));
+        Assert.assertArrayEquals(new String[] { "x20", "e61" }, SimpleIDN.splitParts("x20\u3002e61"));
+        Assert.assertEquals(0, SimpleIDN.splitParts("..").length);
+    }
+}
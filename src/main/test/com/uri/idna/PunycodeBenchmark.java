@@ -0,0 +1,131 @@
+package com.uri.idna;
+
+import com.uri.Benchmark;
+import com.uri.idn.Punycode;
+import com.uri.idn.PunycodeException;
+
+/**
+ * Compares the Punycode decoder with the former one, which inserted every decoded code point into a
+ * StringBuffer, on labels up to ACE_MAX_LENGTH characters.
+ *
+ * <code>
+ *   java -cp classes:test-classes com.uri.idna.PunycodeBenchmark
+ * </code>
+ *
+ */
+public class PunycodeBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        for (int length : new int[] { 16, 64, 128, 200 }) {
+            // accented latin letters keep the encoded label short, so long labels stay below ACE_MAX_LENGTH
+            StringBuilder label = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                label.append((char)(0xE0 + (i * 7) % 32));
+            }
+            final String encoded = Punycode.encode(label.toString());
+            if (encoded.length() > Punycode.ACE_MAX_LENGTH) {
+                throw new IllegalStateException("Label too long: " + encoded.length());
+            }
+            final StringBuilder output = new StringBuilder(length);
+            final int[] codepoints = new int[encoded.length()];
+            final int operations = 200000 / length * 10;
+
+            System.out.println(length + " code points, " + encoded.length() + " ACE characters");
+            Benchmark.run("  StringBuffer.insert decoder", operations, new Benchmark.Operation() {
+                public int run(int i) throws Exception {
+                    return decodeWithInsert(encoded).length();
+                }
+            });
+            Benchmark.run("  decode(String)", operations, new Benchmark.Operation() {
+                public int run(int i) throws Exception {
+                    return Punycode.decode(encoded).length();
+                }
+            });
+            Benchmark.run("  decode(CharSequence, StringBuilder)", operations, new Benchmark.Operation() {
+                public int run(int i) throws Exception {
+                    output.setLength(0);
+                    Punycode.decode(encoded, 0, encoded.length(), output);
+                    return output.length();
+                }
+            });
+            Benchmark.run("  decode(CharSequence, int[])", operations, new Benchmark.Operation() {
+                public int run(int i) throws Exception {
+                    return Punycode.decode(encoded, 0, encoded.length(), codepoints);
+                }
+            });
+        }
+    }
+
+    /**
+     * The decoder before it wrote into an int[], with the same checks. Each code point is inserted into
+     * the StringBuffer.
+     */
+    private static String decodeWithInsert(String input) throws PunycodeException {
+        StringBuffer output = new StringBuffer();
+        int n = Punycode.INITIAL_N;
+        int i = 0;
+        int bias = Punycode.INITIAL_BIAS;
+        int b = Math.max(0, input.lastIndexOf(Punycode.DELIMITER));
+        for (int j = 0; j < b; j++) {
+            output.append(input.charAt(j));
+        }
+        int index = (b > 0) ? b + 1 : 0;
+        while (index < input.length()) {
+            int w = 1;
+            int oldi = i;
+            for (int k = Punycode.BASE; ; k += Punycode.BASE) {
+                if (index >= input.length()) {
+                    throw new PunycodeException("Input is invalid!");
+                }
+                int digit = digit(input.charAt(index++));
+                if (digit >= Punycode.BASE || digit > (Integer.MAX_VALUE - i) / w) {
+                    throw new PunycodeException("Overflow");
+                }
+                i += digit * w;
+                int t = (k <= bias) ? Punycode.TMIN : k >= bias + Punycode.TMAX ? Punycode.TMAX : k - bias;
+                if (digit < t) {
+                    break;
+                }
+                if (w > Integer.MAX_VALUE / (Punycode.BASE - t)) {
+                    throw new PunycodeException("Input needs wider integers");
+                }
+                w *= (Punycode.BASE - t);
+            }
+            int out = output.length();
+            bias = adapt(i - oldi, out + 1, oldi == 0);
+            if (i / (out + 1) > Integer.MAX_VALUE - n) {
+                throw new PunycodeException("Input needs wider integers");
+            }
+            n = n + i / (out + 1);
+            i = i % (out + 1);
+            output.insert(i, (char)n);
+            i++;
+        }
+        return output.toString();
+    }
+
+    private static int digit(int codepoint) {
+        if (codepoint - 48 < 10) {
+            return codepoint - 22;
+        }
+        if (codepoint - 65 < 26) {
+            return codepoint - 65;
+        }
+        if (codepoint - 97 < 26) {
+            return codepoint - 97;
+        }
+        return Punycode.BASE;
+    }
+
+    private static int adapt(int delta, int numpoints, boolean firsttime) {
+        delta = firsttime ? delta / Punycode.DAMP : (delta >> 1);
+        delta += delta / numpoints;
+        int difference = Punycode.BASE - Punycode.TMIN;
+        int k = 0;
+        while (delta > ((difference * Punycode.TMAX) >> 1)) {
+            delta /= difference;
+            k += Punycode.BASE;
+        }
+        return k + (difference + 1) * delta / (delta + Punycode.SKEW);
+    }
+}
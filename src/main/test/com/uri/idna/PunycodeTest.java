@@ -1,5 +1,8 @@
 package com.uri.idna;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.Test;
 
 import com.uri.URIAssert;
@@ -213,5 +216,23 @@ public class PunycodeTest {
         String expected = "iñtërnâtiônàlizætiøn";
         URIAssert.equals(expected, Punycode.decode(label));
     }
+    
+    @Test
+    public void shouldEncodeAndDecodeSupplementaryCodePoints() throws PunycodeException {
+        String label = "a\uD83D\uDE00b";
+        URIAssert.equals("ab-no82a", Punycode.encode(label));
+        URIAssert.equals(label, Punycode.decode("ab-no82a"));
+    }
+    
+    @Test
+    public void shouldDecodeRangeIntoAppendable() throws PunycodeException, IOException {
+        StringWriter output = new StringWriter();
+        Punycode.decode("xn--8ws00zhy3a.com", 4, 14, output);
+        URIAssert.equals("\u8A79\u59C6\u65AF", output.toString());
+    }
+    
+    @Test(expected = PunycodeException.class)
+    public void shouldRejectInvalidDigits() throws PunycodeException {
+        Punycode.decode("8ws00_zhy3a");
+    }
 }
-
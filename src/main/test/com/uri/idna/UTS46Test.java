@@ -0,0 +1,130 @@
+package com.uri.idna;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.uri.idn.UTS46;
+
+public class UTS46Test {
+
+    @Test
+    public void toASCIIShouldLowerCaseASCIIHost() {
+        Assert.assertEquals("www.example.com", UTS46.toASCII("WWW.Example.com"));
+        Assert.assertEquals("", UTS46.toASCII(""));
+        Assert.assertEquals("a..b.", UTS46.toASCII("a..b."));
+    }
+
+    @Test
+    public void toASCIIShouldEncodeNonASCIILabels() {
+        Assert.assertEquals("xn--bcher-kva.de", UTS46.toASCII("B\u00FCcher.de"));
+        Assert.assertEquals("www.xn--4ca0bs.com", UTS46.toASCII("www.\u00E4\u00F6\u00FC.com"));
+        Assert.assertEquals("www.xn--8ws00zhy3a.com", UTS46.toASCII("www.\u8A79\u59C6\u65AF.com"));
+    }
+
+    @Test
+    public void toASCIIShouldAppendToOutput() {
+        StringBuilder output = new StringBuilder("http://");
+        UTS46.toASCII("B\u00FCcher.de", output);
+        Assert.assertEquals("http://xn--bcher-kva.de", output.toString());
+    }
+
+    @Test
+    public void toASCIIShouldKeepDeviationCharacters() {
+        // nontransitional processing, java.net.IDN maps the sharp s to "ss"
+        Assert.assertEquals("xn--fa-hia.de", UTS46.toASCII("fa\u00DF.de"));
+    }
+
+    @Test
+    public void toASCIIShouldMapCompatibilityCharacters() {
+        Assert.assertEquals("example.com", UTS46.toASCII("\uFF45\uFF58\uFF41\uFF4D\uFF50\uFF4C\uFF45\uFF0Ecom"));
+        Assert.assertEquals("a.b.c", UTS46.toASCII("a\u3002b\uFF61c"));
+        Assert.assertEquals("tel.com", UTS46.toASCII("\u2121.com"));
+        Assert.assertEquals("example.com", UTS46.toASCII("exam\u00ADple.com"));
+    }
+
+    @Test
+    public void toASCIIShouldApplyTheMappingTable() {
+        // the capital sharp s is mapped to "ss" although the sharp s itself is a deviation
+        Assert.assertEquals("ss.de", UTS46.toASCII("\u1E9E.de"));
+        // the capital I with dot above keeps its dot as combining character
+        Assert.assertEquals("xn--i-9bb", UTS46.toASCII("\u0130"));
+        // Cherokee letters are folded to upper case
+        Assert.assertEquals("xn--58d", UTS46.toASCII("\u13A0"));
+        Assert.assertEquals("xn--58d", UTS46.toASCII("\uAB70"));
+        // the combining ypogegrammeni is mapped to a small iota
+        Assert.assertEquals("xn--uxa", UTS46.toASCII("\u0345"));
+    }
+
+    @Test
+    public void toASCIIShouldAcceptRightToLeftHosts() {
+        Assert.assertEquals("xn--4dbc.com", UTS46.toASCII("\u05D0\u05D1.com"));
+        Assert.assertEquals("\u05D0\u05D1.com", UTS46.toUnicode("xn--4dbc.com"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectMixedDirectionLabel() {
+        UTS46.toASCII("\u05D0a.com");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toUnicodeShouldCheckBidiOfPunycodeLabels() {
+        // "1.xn--4dbc", the first label starts with a digit
+        UTS46.toUnicode("1.xn--4dbc");
+    }
+
+    @Test
+    public void toASCIIShouldAcceptJoinersAfterVirama() {
+        Assert.assertEquals("xn--11b2ezcw70k", UTS46.toASCII("\u0915\u094D\u200D\u0937"));
+        // between a dual joining and a right joining arabic letter
+        Assert.assertEquals("xn--mgbb899q", UTS46.toASCII("\u0628\u200C\u0627"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectJoinerOutOfContext() {
+        UTS46.toASCII("a\u200Db.com");
+    }
+
+    @Test
+    public void toASCIIShouldNotAppendInvalidHost() {
+        StringBuilder output = new StringBuilder("http://");
+        try {
+            UTS46.toASCII("b\u00FCcher.\u05D0a", output);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("http://", output.toString());
+        }
+    }
+
+    @Test
+    public void toASCIIShouldAcceptValidPunycodeLabels() {
+        Assert.assertEquals("xn--bcher-kva.de", UTS46.toASCII("XN--BCHER-KVA.de"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectPunycodeLabelOfASCIIString() {
+        UTS46.toASCII("xn--abc-.de");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectPunycodeLabelNotInMappedForm() {
+        // an upper case U+00DC
+        UTS46.toASCII("xn--wca.de");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectLeadingCombiningMark() {
+        UTS46.toASCII("\u0301a.com");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toASCIIShouldRejectDisallowedCodePoints() {
+        UTS46.toASCII("a\uE000b.com");
+    }
+
+    @Test
+    public void toUnicodeShouldDecodePunycodeLabels() {
+        Assert.assertEquals("b\u00FCcher.de", UTS46.toUnicode("xn--bcher-kva.de"));
+        Assert.assertEquals("www.\u8A79\u59C6\u65AF.com", UTS46.toUnicode("WWW.xn--8ws00zhy3a.com"));
+        Assert.assertEquals("b\u00FCcher.de", UTS46.toUnicode("B\u00DCcher.de"));
+    }
+}